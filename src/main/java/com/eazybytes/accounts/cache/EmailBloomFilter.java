@@ -0,0 +1,207 @@
+package com.eazybytes.accounts.cache;
+
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Counting Bloom filter over the emails of all stored accounts.
+ * <p>
+ * A negative answer from {@link #mightContain(String)} is definite, so the duplicate email check can skip
+ * the database. Counters instead of bits allow emails to be removed again when accounts are deleted.
+ * The filter is only an optimization: the unique email index still rejects any duplicate it lets through.
+ */
+@Component
+public class EmailBloomFilter {
+    private final Logger LOGGER = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+    private static final int MAX_COUNT = 0xFF;
+
+    private final AccountsRepository accountsRepository;
+
+    // One unsigned 8 bit counter per slot, a saturated counter is never decremented
+    private final byte[] counters;
+
+    private final int hashFunctions;
+
+    private long size;
+
+    // Until the startup rebuild completes every email is reported as possibly present
+    private volatile boolean ready;
+
+    // Removals that arrive while a rebuild streams the emails, null otherwise; guarded by this
+    private Set<String> pendingRemovals;
+
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    private final AtomicLong negatives = new AtomicLong();
+
+    public EmailBloomFilter(AccountsRepository accountsRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${bloom-filter.emails.expected-insertions}") long expectedInsertions,
+                            @Value("${bloom-filter.emails.false-positive-probability}") double falsePositiveProbability) {
+        this.accountsRepository = accountsRepository;
+        long slots = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(64, slots))];
+        this.hashFunctions = Math.max(1, (int) Math.round((double) counters.length / expectedInsertions * Math.log(2)));
+
+        Gauge.builder("accounts.email.filter.fpp.estimated", this, EmailBloomFilter::estimatedFalsePositiveProbability)
+                .description("False positive probability expected from the filter's size and fill")
+                .register(meterRegistry);
+        Gauge.builder("accounts.email.filter.fpp.observed", this, EmailBloomFilter::observedFalsePositiveProbability)
+                .description("Share of emails not in the database that the filter still reported as possibly present")
+                .register(meterRegistry);
+        Gauge.builder("accounts.email.filter.size", this, EmailBloomFilter::size)
+                .description("Emails currently counted in the filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts the emails of all stored accounts. Creates that happen meanwhile are added in place and not lost.
+     * A delete that happens meanwhile may be for an email the query will still return, or for one it never
+     * returns; decrementing right away could take counts from other emails and make them false negatives.
+     * Removals are therefore held back: a streamed email with a pending removal is not counted, the removals
+     * left when the stream ends are dropped. At worst an email stays counted, which is a false positive.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (this) {
+            pendingRemovals = new HashSet<>();
+        }
+        try (Stream<String> emails = accountsRepository.streamAllEmails()) {
+            emails.forEach(email -> {
+                long hash = hash(email);
+                synchronized (this) {
+                    if (!pendingRemovals.remove(email)) {
+                        increment(hash);
+                    }
+                }
+            });
+        } finally {
+            synchronized (this) {
+                pendingRemovals = null;
+            }
+        }
+        ready = true;
+        LOGGER.info("Email filter rebuilt with {} emails in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        synchronized (this) {
+            for (int i = 0; i < hashFunctions; i++) {
+                if (counters[slot(h1, h2, i)] == 0) {
+                    negatives.incrementAndGet();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public void add(String email) {
+        long hash = hash(email);
+        synchronized (this) {
+            increment(hash);
+        }
+    }
+
+    /**
+     * Must only be called for emails that were added before, otherwise other emails could turn into false negatives.
+     */
+    public void remove(String email) {
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        synchronized (this) {
+            if (pendingRemovals != null) {
+                pendingRemovals.add(email);
+                return;
+            }
+            for (int i = 0; i < hashFunctions; i++) {
+                int slot = slot(h1, h2, i);
+                int count = counters[slot] & MAX_COUNT;
+                if (count > 0 && count < MAX_COUNT) {
+                    counters[slot] = (byte) (count - 1);
+                }
+            }
+            size = Math.max(0, size - 1);
+        }
+    }
+
+    /**
+     * Records that the database did not know an email the filter reported as possibly present.
+     */
+    public void recordFalsePositive() {
+        falsePositives.incrementAndGet();
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    public double estimatedFalsePositiveProbability() {
+        double fill = 1 - Math.exp(-(double) hashFunctions * size() / counters.length);
+        return Math.pow(fill, hashFunctions);
+    }
+
+    public double observedFalsePositiveProbability() {
+        long falsePositiveCount = falsePositives.get();
+        long absent = falsePositiveCount + negatives.get();
+        return absent == 0 ? 0 : (double) falsePositiveCount / absent;
+    }
+
+    // Caller holds the lock
+    private void increment(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int slot = slot(h1, h2, i);
+            int count = counters[slot] & MAX_COUNT;
+            if (count < MAX_COUNT) {
+                counters[slot] = (byte) (count + 1);
+            }
+        }
+        size++;
+    }
+
+    private int slot(int h1, int h2, int i) {
+        // Kirsch-Mitzenmacher double hashing: k slots from one 64 bit hash
+        return Math.floorMod(h1 + i * h2, counters.length);
+    }
+
+    // 64 bit FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer to spread both halves
+    private static long hash(String email) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : email.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
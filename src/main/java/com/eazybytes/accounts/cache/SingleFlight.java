@@ -0,0 +1,60 @@
+package com.eazybytes.accounts.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one.
+ * <p>
+ * The first caller for a key starts the call; callers arriving while it is in flight subscribe to the same
+ * pending result instead of starting their own. The entry is removed as soon as the call terminates, so this
+ * only deduplicates concurrent work and never serves an old result, caching stays with the caches.
+ * The shared call keeps running when one of its callers cancels, the others still wait for it.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter started;
+
+    private final Counter coalesced;
+
+    public SingleFlight(MeterRegistry meterRegistry, String name) {
+        started = Counter.builder("accounts.singleflight.calls")
+                .description("Calls that started a downstream request or joined one already in flight")
+                .tags("name", name, "result", "started")
+                .register(meterRegistry);
+        coalesced = Counter.builder("accounts.singleflight.calls")
+                .description("Calls that started a downstream request or joined one already in flight")
+                .tags("name", name, "result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("accounts.singleflight.in.flight", inFlight, Map::size)
+                .description("Keys with a downstream request in flight")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            AtomicBoolean leader = new AtomicBoolean();
+            Mono<V> shared = inFlight.computeIfAbsent(key, k -> {
+                leader.set(true);
+                AtomicReference<Mono<V>> self = new AtomicReference<>();
+                self.set(Mono.defer(call)
+                        .doFinally(signal -> inFlight.remove(k, self.get()))
+                        .cache());
+                return self.get();
+            });
+            (leader.get() ? started : coalesced).increment();
+            return shared;
+        });
+    }
+}
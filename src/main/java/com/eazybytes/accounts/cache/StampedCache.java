@@ -0,0 +1,111 @@
+package com.eazybytes.accounts.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caffeine cache that a load which read before an eviction can not refill with the value the eviction removed.
+ * <p>
+ * A load through {@link #get(Object, Callable)}, which is what {@code @Cacheable(sync = true)} calls, takes the
+ * eviction stamp of its key before it reads and stores its value only if the stamp is unchanged. The check and
+ * the store, like an eviction and its stamp increment, run under the map's lock for the key, so an eviction
+ * either comes first and the loaded value is dropped, or comes after and removes it.
+ * An eviction inside a transaction is deferred until it commits, a read before the commit would still get the
+ * old row. Stamps are counters striped by key hash, a collision only costs a skipped store.
+ */
+public class StampedCache implements Cache {
+
+    private static final int STRIPES = 1024;
+
+    private final CaffeineCache delegate;
+
+    private final ConcurrentMap<Object, Object> map;
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+    public StampedCache(CaffeineCache delegate) {
+        this.delegate = delegate;
+        this.map = delegate.getNativeCache().asMap();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        long stamp = stamps.get(stripe(key));
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            map.compute(key, (k, current) -> stamps.get(stripe(k)) == stamp ? value : current);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(key);
+                }
+            });
+        } else {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private void invalidate(Object key) {
+        map.compute(key, (k, current) -> {
+            stamps.incrementAndGet(stripe(k));
+            return null;
+        });
+    }
+
+    private static int stripe(Object key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+}
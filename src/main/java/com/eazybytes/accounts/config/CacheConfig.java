@@ -0,0 +1,92 @@
+package com.eazybytes.accounts.config;
+
+import com.eazybytes.accounts.cache.SingleFlight;
+import com.eazybytes.accounts.cache.StampedCache;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ACCOUNTS_CACHE = "accounts";
+    public static final String ORDERS_CACHE = "orders";
+    public static final String ACCOUNT_ORDERS_CACHE = "account-orders";
+    public static final String ORDER_OWNERS_CACHE = "order-owners";
+
+    @Value("${cache.accounts.maximum-size}")
+    private long accountsMaximumSize;
+
+    @Value("${cache.accounts.expire-after-write}")
+    private Duration accountsExpireAfterWrite;
+
+    @Value("${cache.orders.maximum-size}")
+    private long ordersMaximumSize;
+
+    @Value("${cache.orders.expire-after-write}")
+    private Duration ordersExpireAfterWrite;
+
+    @Value("${cache.account-orders.maximum-size}")
+    private long accountOrdersMaximumSize;
+
+    @Value("${cache.account-orders.expire-after-write}")
+    private Duration accountOrdersExpireAfterWrite;
+
+    // Caffeine backed caches, stats are recorded so that actuator exposes hit/miss/eviction metrics
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            // Accounts are evicted by updates and deletes while fetches may be loading the same row
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                Cache adapted = super.adaptCaffeineCache(name, cache);
+                return ACCOUNTS_CACHE.equals(name) ? new StampedCache((CaffeineCache) adapted) : adapted;
+            }
+        };
+        cacheManager.registerCustomCache(ACCOUNTS_CACHE, Caffeine.newBuilder()
+                .maximumSize(accountsMaximumSize)
+                .expireAfterWrite(accountsExpireAfterWrite)
+                .recordStats()
+                .build());
+        // Order data is owned by the orders service, which may change it too, so it is only kept briefly
+        cacheManager.registerCustomCache(ORDERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(ordersMaximumSize)
+                .expireAfterWrite(ordersExpireAfterWrite)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(ACCOUNT_ORDERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(accountOrdersMaximumSize)
+                .expireAfterWrite(accountOrdersExpireAfterWrite)
+                .recordStats()
+                .build());
+        // orderId -> accountNumber of every order in a cached list, so that a delete finds the list to drop.
+        // Same TTL and no size bound: an entry is written with its list and never leaves before it
+        cacheManager.registerCustomCache(ORDER_OWNERS_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(accountOrdersExpireAfterWrite)
+                .build());
+        return cacheManager;
+    }
+
+    // Cache misses for the same order or account that arrive together share one call to the orders service
+    @Bean
+    public SingleFlight<String, OrdersDto> ordersSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>(meterRegistry, ORDERS_CACHE);
+    }
+
+    @Bean
+    public SingleFlight<String, List<OrdersDto>> accountOrdersSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>(meterRegistry, ACCOUNT_ORDERS_CACHE);
+    }
+}
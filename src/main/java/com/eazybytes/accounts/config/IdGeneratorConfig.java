@@ -0,0 +1,25 @@
+package com.eazybytes.accounts.config;
+
+import com.eazybytes.accounts.id.IdGenerator;
+import com.eazybytes.accounts.id.RandomUuidGenerator;
+import com.eazybytes.accounts.id.UuidV7Generator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    // uuid-v7 (time ordered, default) or random (UUID.randomUUID)
+    @Value("${id-generator.type:uuid-v7}")
+    private String idGeneratorType;
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return switch (idGeneratorType) {
+            case "uuid-v7" -> new UuidV7Generator();
+            case "random" -> new RandomUuidGenerator();
+            default -> throw new IllegalArgumentException("Unknown id-generator.type: " + idGeneratorType);
+        };
+    }
+}
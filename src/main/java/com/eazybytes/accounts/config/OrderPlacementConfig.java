@@ -0,0 +1,41 @@
+package com.eazybytes.accounts.config;
+
+import com.eazybytes.accounts.id.IdGenerator;
+import com.eazybytes.accounts.placement.OrderPlacementQueue;
+import com.eazybytes.accounts.service.IReactiveOrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class OrderPlacementConfig {
+
+    @Value("${orders.placement.async}")
+    private boolean async;
+
+    @Value("${orders.placement.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${orders.placement.workers}")
+    private int workers;
+
+    @Value("${orders.placement.drain-timeout}")
+    private Duration drainTimeout;
+
+    @Value("${orders.placement.status.maximum-size}")
+    private long statusMaximumSize;
+
+    @Value("${orders.placement.status.expire-after-write}")
+    private Duration statusExpireAfterWrite;
+
+    // With async placement, create answers 202 at once and the workers send the order to the orders service
+    @Bean(destroyMethod = "shutdown")
+    public OrderPlacementQueue orderPlacementQueue(MeterRegistry meterRegistry, IdGenerator idGenerator,
+                                                   IReactiveOrderService iReactiveOrderService) {
+        return new OrderPlacementQueue(meterRegistry, async, queueCapacity, workers, drainTimeout,
+                statusMaximumSize, statusExpireAfterWrite, idGenerator::nextId, iReactiveOrderService::placeOrder);
+    }
+}
@@ -1,15 +1,105 @@
 package com.eazybytes.accounts.config;
 
+import com.eazybytes.accounts.loadbalancer.PeakEwmaLoadBalancer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class RESTConfiguration {
 
+    public static final String ORDERS_CONNECTION_POOL = "orders";
+
+    @Value("${orders.client.base-url}")
+    private String ordersBaseUrl;
+
+    // Comma separated, defaults to base-url alone
+    @Value("${orders.client.instances}")
+    private List<URI> ordersInstances;
+
+    @Value("${orders.client.load-balancer.decay-time}")
+    private Duration ordersDecayTime;
+
+    @Value("${orders.client.load-balancer.eject-after-failures}")
+    private int ordersEjectAfterFailures;
+
+    @Value("${orders.client.load-balancer.ejection-time}")
+    private Duration ordersEjectionTime;
+
+    @Value("${orders.client.max-connections}")
+    private int ordersMaxConnections;
+
+    @Value("${orders.client.pending-acquire-max-count}")
+    private int ordersPendingAcquireMaxCount;
+
+    @Value("${orders.client.pending-acquire-timeout}")
+    private Duration ordersPendingAcquireTimeout;
+
+    @Value("${orders.client.connect-timeout}")
+    private Duration ordersConnectTimeout;
+
+    @Value("${orders.client.response-timeout}")
+    private Duration ordersResponseTimeout;
+
+    @Value("${orders.client.max-idle-time}")
+    private Duration ordersMaxIdleTime;
+
+    @Value("${orders.client.max-life-time}")
+    private Duration ordersMaxLifeTime;
+
+    @Value("${orders.client.h2c}")
+    private boolean ordersH2c;
+
+    // Dedicated pool for the orders service, the Reactor Netty default caps out at 2 x cores (min 16) connections.
+    // metrics(true) publishes reactor.netty.connection.provider.{total,active,idle,pending}.connections tagged name=orders
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider ordersConnectionProvider() {
+        return ConnectionProvider.builder(ORDERS_CONNECTION_POOL)
+                .maxConnections(ordersMaxConnections)
+                .pendingAcquireMaxCount(ordersPendingAcquireMaxCount)
+                .pendingAcquireTimeout(ordersPendingAcquireTimeout)
+                // Close keep-alive connections before the server side does, and recycle them now and then
+                .maxIdleTime(ordersMaxIdleTime)
+                .maxLifeTime(ordersMaxLifeTime)
+                .evictInBackground(ordersMaxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    // Spreads the calls over all orders service instances, base-url only supplies the path.
+    // A failed call counts as slow as one that runs into the response timeout.
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public PeakEwmaLoadBalancer ordersLoadBalancer(MeterRegistry meterRegistry) {
+        return new PeakEwmaLoadBalancer(meterRegistry, ORDERS_CONNECTION_POOL, ordersInstances, ordersDecayTime,
+                ordersEjectAfterFailures, ordersEjectionTime, ordersResponseTimeout);
+    }
+
+    // Boot's builder carries the observation registry, so every call is timed as http.client.requests
+    @Bean
+    public WebClient webClient(WebClient.Builder webClientBuilder, ConnectionProvider ordersConnectionProvider,
+                               PeakEwmaLoadBalancer ordersLoadBalancer) {
+        HttpClient httpClient = HttpClient.create(ordersConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) ordersConnectTimeout.toMillis())
+                .responseTimeout(ordersResponseTimeout)
+                .keepAlive(true)
+                // h2c multiplexes all calls over a few connections, HTTP/1.1 stays as the upgrade fallback
+                .protocol(ordersH2c ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11} : new HttpProtocol[]{HttpProtocol.HTTP11});
+
+        return webClientBuilder
+                .baseUrl(ordersBaseUrl)
+                .filter(ordersLoadBalancer)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 
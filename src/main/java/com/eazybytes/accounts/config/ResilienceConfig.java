@@ -0,0 +1,120 @@
+package com.eazybytes.accounts.config;
+
+import com.eazybytes.accounts.resilience.BudgetedRetry;
+import com.eazybytes.accounts.resilience.DownstreamFailurePredicate;
+import com.eazybytes.accounts.resilience.HedgedRequests;
+import com.eazybytes.accounts.resilience.RequestBudget;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfig {
+
+    // One circuit breaker per orders service operation, configured under resilience4j.circuitbreaker.instances
+    public static final String ORDERS_CREATE = "orders-create";
+    public static final String ORDERS_FETCH_ALL = "orders-fetch-all";
+    public static final String ORDERS_FETCH = "orders-fetch";
+    public static final String ORDERS_UPDATE = "orders-update";
+    public static final String ORDERS_DELETE = "orders-delete";
+
+    public static final String CIRCUIT_BREAKER_TRANSITIONS = "accounts.circuitbreaker.transitions";
+
+    @Value("${orders.retry.max-retries}")
+    private int ordersMaxRetries;
+
+    @Value("${orders.retry.backoff}")
+    private Duration ordersRetryBackoff;
+
+    @Value("${orders.retry.budget.ratio}")
+    private double ordersRetryBudgetRatio;
+
+    @Value("${orders.retry.budget.min-per-second}")
+    private double ordersRetryBudgetMinPerSecond;
+
+    @Value("${orders.retry.budget.max-balance}")
+    private double ordersRetryBudgetMaxBalance;
+
+    @Value("${orders.hedging.enabled}")
+    private boolean ordersHedgingEnabled;
+
+    @Value("${orders.hedging.percentile}")
+    private double ordersHedgingPercentile;
+
+    @Value("${orders.hedging.initial-delay}")
+    private Duration ordersHedgingInitialDelay;
+
+    @Value("${orders.hedging.min-delay}")
+    private Duration ordersHedgingMinDelay;
+
+    @Value("${orders.hedging.budget.ratio}")
+    private double ordersHedgeBudgetRatio;
+
+    @Value("${orders.hedging.budget.min-per-second}")
+    private double ordersHedgeBudgetMinPerSecond;
+
+    @Value("${orders.hedging.budget.max-balance}")
+    private double ordersHedgeBudgetMaxBalance;
+
+    @Bean
+    public RequestBudget ordersRetryBudget(MeterRegistry meterRegistry) {
+        return new RequestBudget(meterRegistry, "orders-retry", ordersRetryBudgetRatio,
+                ordersRetryBudgetMinPerSecond, ordersRetryBudgetMaxBalance);
+    }
+
+    @Bean
+    public Retry ordersRetry(RequestBudget ordersRetryBudget) {
+        return new BudgetedRetry(ordersMaxRetries, ordersRetryBackoff, ordersRetryBudget, new DownstreamFailurePredicate());
+    }
+
+    // Hedges have their own budget, so that a burst of hedges cannot use up the retries and the other way round
+    @Bean
+    public RequestBudget ordersHedgeBudget(MeterRegistry meterRegistry) {
+        return new RequestBudget(meterRegistry, "orders-hedge", ordersHedgeBudgetRatio,
+                ordersHedgeBudgetMinPerSecond, ordersHedgeBudgetMaxBalance);
+    }
+
+    @Bean
+    public HedgedRequests ordersFetchHedging(MeterRegistry meterRegistry, RequestBudget ordersHedgeBudget) {
+        return new HedgedRequests(meterRegistry, ORDERS_FETCH, ordersHedgingEnabled, ordersHedgingPercentile,
+                ordersHedgingInitialDelay, ordersHedgingMinDelay, ordersHedgeBudget);
+    }
+
+    @Bean
+    public HedgedRequests ordersFetchAllHedging(MeterRegistry meterRegistry, RequestBudget ordersHedgeBudget) {
+        return new HedgedRequests(meterRegistry, ORDERS_FETCH_ALL, ordersHedgingEnabled, ordersHedgingPercentile,
+                ordersHedgingInitialDelay, ordersHedgingMinDelay, ordersHedgeBudget);
+    }
+
+    // Resilience4j publishes the current state of every circuit breaker, this adds a counter of state transitions
+    @Bean
+    public RegistryEventConsumer<CircuitBreaker> circuitBreakerTransitionCounter(MeterRegistry meterRegistry) {
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<CircuitBreaker> entryAddedEvent) {
+                CircuitBreaker circuitBreaker = entryAddedEvent.getAddedEntry();
+                circuitBreaker.getEventPublisher().onStateTransition(event -> meterRegistry.counter(CIRCUIT_BREAKER_TRANSITIONS,
+                        "name", circuitBreaker.getName(),
+                        "from", event.getStateTransition().getFromState().name(),
+                        "to", event.getStateTransition().getToState().name()).increment());
+            }
+
+            @Override
+            public void onEntryRemovedEvent(EntryRemovedEvent<CircuitBreaker> entryRemoveEvent) {
+            }
+
+            @Override
+            public void onEntryReplacedEvent(EntryReplacedEvent<CircuitBreaker> entryReplacedEvent) {
+            }
+        };
+    }
+}
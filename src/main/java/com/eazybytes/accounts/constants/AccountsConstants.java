@@ -12,10 +12,23 @@ public final class AccountsConstants {
     public static final String  MESSAGE_201 = "Account created successfully";
     public static final String  STATUS_200 = "200";
     public static final String  MESSAGE_200 = "Request processed successfully";
+    public static final String  STATUS_400 = "400";
+    public static final String  MESSAGE_400_DUPLICATE = "Account already registered with given Email ";
+    public static final String  MESSAGE_400_BATCH_ABORTED = "This and the following items were not created. ";
+    public static final String  STATUS_412 = "412";
+    public static final String  MESSAGE_412 = "Account was modified since it was fetched. Fetch it again and retry";
     public static final String  STATUS_417 = "417";
     public static final String  MESSAGE_417_UPDATE= "Update operation failed. Please try again or contact Dev team";
     public static final String  MESSAGE_417_DELETE= "Delete operation failed. Please try again or contact Dev team";
     // public static final String  STATUS_500 = "500";
     // public static final String  MESSAGE_500 = "An error occurred. Please try again or contact Dev team";
 
+    // Accounts per duplicate check and JDBC batch insert, keep in line with hibernate.jdbc.batch_size
+    public static final int  BATCH_CHUNK_SIZE = 500;
+    // Emails per multi-get request and per IN query
+    public static final int  FETCH_BATCH_MAX_EMAILS = 1000;
+    public static final int  FETCH_BATCH_CHUNK_SIZE = 100;
+    // Accounts per page of the keyset paginated listing
+    public static final int  LIST_MAX_PAGE_SIZE = 100;
+
 }
@@ -9,6 +9,9 @@ public final class OrdersConstants {
     public static final String STATUS_201 = "201";
     public static final String MESSAGE_201 = "Order created successfully";
 
+    public static final String STATUS_202 = "202";
+    public static final String MESSAGE_202 = "Order accepted and queued for placement";
+
     public static final String STATUS_200 = "200";
     public static final String MESSAGE_200 = "Request processed successfully";
     public static final String MESSAGE_200_FETCH_ALL = "All orders retrieved successfully";
@@ -24,6 +27,7 @@ public final class OrdersConstants {
     public static final String MESSAGE_404_FETCH_ALL = "No orders found for the given criteria.";
     public static final String MESSAGE_404_UPDATE = "Order to update not found.";
     public static final String MESSAGE_404_DELETE = "Order to delete not found.";
+    public static final String MESSAGE_404_STATUS = "No order placement found for the given ID.";
 
     public static final String STATUS_409 = "409";
     public static final String MESSAGE_409_UPDATE = "Update conflict: Order cannot be modified in current state.";
@@ -39,5 +43,9 @@ public final class OrdersConstants {
     public static final String  MESSAGE_500_UPDATE= "Update operation failed. Please try again or contact Dev team";
     public static final String MESSAGE_500_CREATE = "Order could not be placed due to an internal error.";
 
+    public static final String STATUS_503 = "503";
+    public static final String MESSAGE_503 = "Orders service is currently unavailable. Please try again later.";
+    public static final String MESSAGE_503_PLACEMENT = "Orders cannot be queued for placement right now. Please try again later.";
+
 
 }
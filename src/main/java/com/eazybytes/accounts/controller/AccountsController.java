@@ -1,19 +1,36 @@
 package com.eazybytes.accounts.controller;
 
 import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.AccountsBatchFetchDto;
 import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.dto.BatchItemResponseDto;
 import com.eazybytes.accounts.dto.ResponseDto;
+import com.eazybytes.accounts.exception.InvalidRequestException;
+import com.eazybytes.accounts.exception.PreconditionFailedException;
+import com.eazybytes.accounts.id.IdGenerator;
 import com.eazybytes.accounts.service.IAccountsService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.UUID;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author Eazy Bytes
@@ -27,31 +44,157 @@ public class AccountsController {
 
     private IAccountsService iAccountsService;
 
+    private ObjectMapper objectMapper;
+
+    private IdGenerator idGenerator;
+
     @PostMapping("/create")
     public ResponseEntity<ResponseDto> createAccount(@Valid @RequestBody AccountsDto accountDto) {
-        accountDto.setAccountNumber(UUID.randomUUID().toString());
+        accountDto.setAccountNumber(idGenerator.nextId());
         iAccountsService.createAccount(accountDto);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(new ResponseDto(AccountsConstants.STATUS_201, AccountsConstants.MESSAGE_201));
     }
 
+    /**
+     * Creates accounts from a JSON array. The array is read incrementally and handed to the
+     * service in chunks, so the request body is never materialized as a whole.
+     * <p>
+     * Every chunk is committed on its own. If the body turns out to be malformed after a chunk was
+     * committed, the results so far are returned followed by one entry with status 400 at the index
+     * where creating stopped; nothing from that index on was created.
+     *
+     * @return one result per array element, in request order
+     */
+    @PostMapping(path = "/createBatch", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<BatchItemResponseDto>> createAccounts(InputStream requestBody) throws IOException {
+        List<BatchItemResponseDto> results = new ArrayList<>();
+        List<AccountsDto> chunk = new ArrayList<>(AccountsConstants.BATCH_CHUNK_SIZE);
+        try (JsonParser parser = objectMapper.createParser(requestBody)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("Request body must be a JSON array of accounts");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                AccountsDto accountDto = objectMapper.readValue(parser, AccountsDto.class);
+                accountDto.setAccountNumber(idGenerator.nextId());
+                chunk.add(accountDto);
+                if (chunk.size() == AccountsConstants.BATCH_CHUNK_SIZE) {
+                    results.addAll(createChunk(chunk, results.size()));
+                    chunk.clear();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                return malformedBody(results, "Request body must be a JSON array of accounts");
+            }
+            results.addAll(createChunk(chunk, results.size()));
+        } catch (JsonProcessingException e) {
+            return malformedBody(results,
+                    "Malformed JSON at item " + (results.size() + chunk.size()) + ": " + e.getOriginalMessage());
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(results);
+    }
+
+    private static ResponseEntity<List<BatchItemResponseDto>> malformedBody(List<BatchItemResponseDto> results,
+                                                                            String reason) {
+        if (results.isEmpty()) {
+            throw new InvalidRequestException(reason);
+        }
+        // Earlier chunks are committed already, a plain 400 would hide that they were created
+        results.add(new BatchItemResponseDto(results.size(), null, null,
+                AccountsConstants.STATUS_400, AccountsConstants.MESSAGE_400_BATCH_ABORTED + reason));
+        return ResponseEntity.status(HttpStatus.OK).body(results);
+    }
+
+    private List<BatchItemResponseDto> createChunk(List<AccountsDto> chunk, int offset) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        List<BatchItemResponseDto> chunkResults = iAccountsService.createAccounts(chunk);
+        chunkResults.forEach(result -> result.setIndex(offset + result.getIndex()));
+        return chunkResults;
+    }
 
+
+    /**
+     * Returns the account with an ETag of its current version. A request whose If-None-Match still
+     * matches gets 304 Not Modified without a body.
+     */
     @GetMapping("/fetch")
     public ResponseEntity<AccountsDto> fetchAccountDetails(@RequestParam
                                                                @Email(message = "Invalid email format")
                                                                String email) {
         AccountsDto customerDto = iAccountsService.fetchAccount(email);
-        return ResponseEntity.status(HttpStatus.OK).body(customerDto);
+        // If-None-Match is evaluated against this ETag before the body is serialized
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag(customerDto)).body(customerDto);
+    }
+
+    /**
+     * Resolves many emails in one call. Accounts that exist are returned under "found",
+     * the remaining emails under "missing".
+     */
+    @PostMapping(path = "/fetchBatch", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<AccountsBatchFetchDto> fetchAccountsDetails(@RequestBody List<String> emails) {
+        AccountsBatchFetchDto accountsBatchFetchDto = iAccountsService.fetchAccounts(emails);
+        return ResponseEntity.status(HttpStatus.OK).body(accountsBatchFetchDto);
+    }
+
+
+    /**
+     * Lists accounts page by page in creation order. Pass the returned "nextCursor" to get the
+     * following page; it is null on the last page.
+     */
+    @GetMapping("/list")
+    public ResponseEntity<AccountsPageDto> listAccounts(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        AccountsPageDto accountsPageDto = iAccountsService.listAccounts(cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(accountsPageDto);
     }
 
 
+    /**
+     * Streams every account as newline delimited JSON straight to the response, one account per line.
+     */
+    @GetMapping(path = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    public void exportAccounts(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            // Lines are separated by the explicit newline below, not by Jackson's default root separator
+            generator.setRootValueSeparator(null);
+            iAccountsService.exportAccounts(accountDto -> {
+                try {
+                    generator.writeObject(accountDto);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+
+    /**
+     * Updates the account. With an If-Match header carrying the ETag from /fetch the update only
+     * applies if the account is unchanged since, otherwise 412 Precondition Failed is returned.
+     */
     @PutMapping("/update")
-    public ResponseEntity<ResponseDto> updateAccountDetails(@Valid @RequestBody AccountsDto accountDto) {
+    public ResponseEntity<ResponseDto> updateAccountDetails(@Valid @RequestBody AccountsDto accountDto,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                            String ifMatch) {
+        accountDto.setVersion(null);
+        if(ifMatch != null && !ifMatch.trim().equals("*")) {
+            applyIfMatch(ifMatch, accountDto);
+        }
         boolean isUpdated = iAccountsService.updateAccount(accountDto);
         if(isUpdated) {
-            return ResponseEntity
-                    .status(HttpStatus.OK)
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+            if(accountDto.getVersion() != null) {
+                // A conditional update moved the account exactly one version ahead
+                accountDto.setVersion(accountDto.getVersion() + 1);
+                response.eTag(eTag(accountDto));
+            }
+            return response
                     .body(new ResponseDto(AccountsConstants.STATUS_200, AccountsConstants.MESSAGE_200));
         }else{
             return ResponseEntity
@@ -63,6 +206,31 @@ public class AccountsController {
 
 
 
+    // "<accountNumber>-<version>": a recreated account never matches an ETag of the deleted one
+    private static String eTag(AccountsDto accountDto) {
+        return "\"" + accountDto.getAccountNumber() + "-" + accountDto.getVersion() + "\"";
+    }
+
+    private static void applyIfMatch(String ifMatch, AccountsDto accountDto) {
+        String eTag = ifMatch.trim();
+        int separator = eTag.lastIndexOf('-');
+        if(eTag.startsWith("W/") || eTag.length() < 2 || !eTag.startsWith("\"") || !eTag.endsWith("\"") || separator < 0) {
+            throw new PreconditionFailedException(AccountsConstants.MESSAGE_412);
+        }
+        try {
+            accountDto.setVersion(Long.parseLong(eTag.substring(separator + 1, eTag.length() - 1)));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(AccountsConstants.MESSAGE_412);
+        }
+        String accountNumber = eTag.substring(1, separator);
+        // No account has any other number; with binary account numbers the query could not even bind it
+        if(!IdGenerator.isCanonicalUuid(accountNumber)) {
+            throw new PreconditionFailedException(AccountsConstants.MESSAGE_412);
+        }
+        accountDto.setAccountNumber(accountNumber);
+    }
+
+
     @DeleteMapping("/delete")
     public ResponseEntity<ResponseDto> deleteAccountDetails(@RequestParam
                                                                 @Email(message = "Invalid email format")
@@ -1,10 +1,13 @@
 package com.eazybytes.accounts.controller;
 
 import com.eazybytes.accounts.constants.OrdersConstants;
+import com.eazybytes.accounts.dto.OrderStatusDto;
 import com.eazybytes.accounts.dto.OrdersDto;
 import com.eazybytes.accounts.dto.ResponseDto;
+import com.eazybytes.accounts.placement.OrderPlacementQueue;
 import com.eazybytes.accounts.publisher.NotificationProducer;
-import com.eazybytes.accounts.service.IOrderService;
+import com.eazybytes.accounts.service.IReactiveOrderService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,8 +18,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-
-import java.util.Set;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 
 @RestController
@@ -29,139 +33,197 @@ public class OrderController {
     private NotificationProducer notificationProducer;
 
     @Autowired
-    private IOrderService iOrderService;
+    private IReactiveOrderService iReactiveOrderService;
 
     @Autowired
     WebClient webClient;
 
+    @Autowired
+    private OrderPlacementQueue orderPlacementQueue;
+
+    // Endpoints calling the orders service return a Mono, the request thread is released while the orders service responds.
+    // Mono.defer also turns exceptions thrown while building the call into errors for onErrorResume.
+
+    /**
+     * Places the order. With orders.placement.async the order is only queued: the answer is 202 with the
+     * orderId, and GET /status tells when the order has been placed.
+     */
     @PostMapping("/create")
-    public ResponseEntity<ResponseDto> createOrder(@RequestParam String receiverEmail,
-                                                  @Valid @RequestBody OrdersDto orderDto) {
-        try {
-            ResponseDto response = iOrderService.createOrder(receiverEmail, orderDto);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        }
-        catch (WebClientResponseException e) {
-            // Handle known exceptions
-            if (e.getStatusCode() == HttpStatus.BAD_REQUEST) {
-                return ResponseEntity
-                        .status(HttpStatus.BAD_REQUEST)
-                        .body(new ResponseDto(OrdersConstants.STATUS_400, OrdersConstants.MESSAGE_400_CREATE));
-            }
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_CREATE));
-        }
-        catch (Exception e) {  // Catch any other unexpected errors
-            return ResponseEntity
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_CREATE));
+    public Mono<ResponseEntity<ResponseDto>> createOrder(@RequestParam String receiverEmail,
+                                                        @Valid @RequestBody OrdersDto orderDto) {
+        if (orderPlacementQueue.isEnabled()) {
+            return Mono.fromSupplier(() -> queueOrder(receiverEmail, orderDto));
         }
+        return Mono.defer(() -> iReactiveOrderService.createOrder(receiverEmail, orderDto))
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    // Handle known exceptions
+                    if (e.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                        return Mono.just(ResponseEntity
+                                .status(HttpStatus.BAD_REQUEST)
+                                .body(new ResponseDto(OrdersConstants.STATUS_400, OrdersConstants.MESSAGE_400_CREATE)));
+                    }
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_CREATE)));
+                })
+                .onErrorResume(CallNotPermittedException.class, e -> Mono.just(serviceUnavailable()))
+                .onErrorResume(e -> Mono.just(ResponseEntity  // Catch any other unexpected errors
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_CREATE))));
     }
 
 
 
     @GetMapping("/fetchAll")
-    public ResponseEntity<?> fetchAllOrders(@RequestParam String accountNumber) {
-        try {
-            Set<OrdersDto> orders = iOrderService.fetchAllOrders(accountNumber);
-            return ResponseEntity.status(HttpStatus.OK).body(orders);
-        }
-        catch (WebClientResponseException e) {
-            // Handle known exceptions
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_FETCH_ALL));
-            }
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH_ALL));
-        }
-        catch (Exception e) {  // Catch any other unexpected errors
+    public Mono<ResponseEntity<?>> fetchAllOrders(@RequestParam String accountNumber) {
+        return Mono.defer(() -> iReactiveOrderService.fetchAllOrders(accountNumber).collectList())
+                .<ResponseEntity<?>>map(orders -> ResponseEntity.status(HttpStatus.OK).body(orders))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    // Handle known exceptions
+                    if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                                .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_FETCH_ALL)));
+                    }
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH_ALL)));
+                })
+                .onErrorResume(CallNotPermittedException.class, e -> Mono.just(serviceUnavailable()))
+                .onErrorResume(e -> Mono.just(ResponseEntity  // Catch any other unexpected errors
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH_ALL))));
+    }
 
-            return ResponseEntity
-                .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH_ALL));
+    /**
+     * Progress of an order queued by /create in async mode: PENDING, PLACED or FAILED, together with the status
+     * the synchronous create would have answered with. Outcomes are kept for a limited time only.
+     */
+    @GetMapping("/status")
+    public ResponseEntity<ResponseDto> fetchOrderStatus(@RequestParam String orderId) {
+        OrderStatusDto orderStatusDto = orderPlacementQueue.status(orderId);
+        if (orderStatusDto == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_STATUS));
         }
+        return ResponseEntity.status(HttpStatus.OK).body(orderStatusDto);
     }
 
-    @GetMapping("/fetch")
-    public ResponseEntity<?> fetchOrder(@RequestParam String orderId) {
-
-        try {
-            OrdersDto ordersDto = iOrderService.fetchOrder(orderId);
+    /**
+     * Streams the account's orders as newline delimited JSON, one order per line, written as they arrive
+     * from the orders service instead of after the whole list has been read. Errors reported before the first
+     * order answer with their status and a single ResponseDto line. spring.mvc.async.request-timeout only bounds
+     * the wait for the orders service's answer, the streamed body has no time limit.
+     */
+    @GetMapping(path = "/streamAll", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<?>>> streamAllOrders(@RequestParam String accountNumber) {
+        // Completes once the orders service has answered, the orders are written as the Flux emits them
+        return Mono.defer(() -> iReactiveOrderService.streamAllOrders(accountNumber))
+                .<ResponseEntity<Flux<?>>>map(orders -> ResponseEntity.status(HttpStatus.OK).body(orders))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    // Handle known exceptions
+                    if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                        return Mono.just(streamError(HttpStatus.NOT_FOUND,
+                                new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_FETCH_ALL)));
+                    }
+                    return Mono.just(streamError(HttpStatus.INTERNAL_SERVER_ERROR,
+                            new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH_ALL)));
+                })
+                .onErrorResume(CallNotPermittedException.class, e -> Mono.just(streamError(HttpStatus.SERVICE_UNAVAILABLE,
+                        new ResponseDto(OrdersConstants.STATUS_503, OrdersConstants.MESSAGE_503))))
+                .onErrorResume(e -> Mono.just(streamError(HttpStatus.INTERNAL_SERVER_ERROR, // Catch any other unexpected errors
+                        new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH_ALL))));
+    }
 
-            return ResponseEntity
-                    .status(HttpStatus.OK)
-                    .body(ordersDto);
-        }
-        catch (WebClientResponseException e) {
-            // Handle known exceptions
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_FETCH));
-            }
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH));
-        }
-        catch (Exception e) {  // Catch any other unexpected errors
-            return ResponseEntity
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH));
-        }
+    @GetMapping("/fetch")
+    public Mono<ResponseEntity<?>> fetchOrder(@RequestParam String orderId) {
+        return Mono.defer(() -> iReactiveOrderService.fetchOrder(orderId))
+                .<ResponseEntity<?>>map(ordersDto -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(ordersDto))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    // Handle known exceptions
+                    if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                                .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_FETCH)));
+                    }
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH)));
+                })
+                .onErrorResume(CallNotPermittedException.class, e -> Mono.just(serviceUnavailable()))
+                .onErrorResume(e -> Mono.just(ResponseEntity  // Catch any other unexpected errors
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_FETCH))));
     }
 
     @PutMapping("/update")
-    public ResponseEntity<ResponseDto> updateOrderDetails(@Valid @RequestBody OrdersDto orderDto) {
-        try {
-            ResponseDto responseDto = iOrderService.updateOrderDetails(orderDto);
-
-            return ResponseEntity
-                    .status(HttpStatus.OK)
-                    .body(responseDto);
-        }
-        catch (WebClientResponseException e) {
-            // Handle known exceptions
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_UPDATE));
-            }
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_UPDATE));
-        }
-        catch (Exception e) {  // Catch any other unexpected errors
-            return ResponseEntity
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_UPDATE));
-        }
+    public Mono<ResponseEntity<ResponseDto>> updateOrderDetails(@Valid @RequestBody OrdersDto orderDto) {
+        return Mono.defer(() -> iReactiveOrderService.updateOrderDetails(orderDto))
+                .map(responseDto -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(responseDto))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    // Handle known exceptions
+                    if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                                .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_UPDATE)));
+                    }
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_UPDATE)));
+                })
+                .onErrorResume(CallNotPermittedException.class, e -> Mono.just(serviceUnavailable()))
+                .onErrorResume(e -> Mono.just(ResponseEntity  // Catch any other unexpected errors
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_UPDATE))));
     }
 
     @DeleteMapping("/delete")
-    public ResponseEntity<ResponseDto> deleteOrderDetails(@RequestParam String orderId) {
-        try {
-            ResponseDto responseDto = iOrderService.deleteOrderDetails(orderId);
+    public Mono<ResponseEntity<ResponseDto>> deleteOrderDetails(@RequestParam String orderId) {
+        return Mono.defer(() -> iReactiveOrderService.deleteOrderDetails(orderId))
+                .map(responseDto -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(responseDto))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    // Handle known exceptions
+                    if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                        return Mono.just(ResponseEntity
+                                .status(HttpStatus.NOT_FOUND)
+                                .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_DELETE)));
+                    } else if (e.getStatusCode() == HttpStatus.EXPECTATION_FAILED) {
+                        return Mono.just(ResponseEntity
+                                .status(HttpStatus.EXPECTATION_FAILED)
+                                .body(new ResponseDto(OrdersConstants.STATUS_417, OrdersConstants.MESSAGE_417_DELETE)));
+                    }
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_DELETE)));
+                })
+                .onErrorResume(CallNotPermittedException.class, e -> Mono.just(serviceUnavailable()))
+                .onErrorResume(e -> Mono.just(ResponseEntity  // Catch any other unexpected errors
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_DELETE))));
+    }
 
-            return ResponseEntity
-                    .status(HttpStatus.OK)
-                    .body(responseDto);
-        }
-        catch (WebClientResponseException e) {
-            // Handle known exceptions
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                return ResponseEntity
-                        .status(HttpStatus.NOT_FOUND)
-                        .body(new ResponseDto(OrdersConstants.STATUS_404, OrdersConstants.MESSAGE_404_DELETE));
-            } else if (e.getStatusCode() == HttpStatus.EXPECTATION_FAILED) {
-                return ResponseEntity
-                        .status(HttpStatus.EXPECTATION_FAILED)
-                        .body(new ResponseDto(OrdersConstants.STATUS_417, OrdersConstants.MESSAGE_417_DELETE));
-            }
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_DELETE));
-        }
-        catch (Exception e) {  // Catch any other unexpected errors
-            return ResponseEntity
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_DELETE));
+    private ResponseEntity<ResponseDto> queueOrder(String receiverEmail, OrdersDto orderDto) {
+        OrderStatusDto pending = orderPlacementQueue.submit(receiverEmail, orderDto);
+        if (pending == null) {
+            // Queue full or shutting down: shed load instead of queueing without bound
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ResponseDto(OrdersConstants.STATUS_503, OrdersConstants.MESSAGE_503_PLACEMENT));
         }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(UriComponentsBuilder.fromPath("/api/orders/status")
+                        .queryParam("orderId", pending.getOrderId())
+                        .build()
+                        .toUri())
+                .body(pending);
+    }
+
+    private static ResponseEntity<Flux<?>> streamError(HttpStatus status, ResponseDto responseDto) {
+        return ResponseEntity.status(status).body(Flux.just(responseDto));
+    }
+
+    // The orders service circuit is open, fail fast instead of waiting for a call that is known to fail
+    private static ResponseEntity<ResponseDto> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ResponseDto(OrdersConstants.STATUS_503, OrdersConstants.MESSAGE_503));
     }
 
 }
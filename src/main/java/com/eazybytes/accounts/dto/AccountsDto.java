@@ -1,5 +1,6 @@
 package com.eazybytes.accounts.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
@@ -22,5 +23,9 @@ public class AccountsDto {
     @Pattern(regexp="(^$|[0-9]{8})",message = "Mobile number must be 8 digits")
     private String mobileNumber;
 
+    // Travels in the ETag and If-Match headers, never in the body
+    @JsonIgnore
+    private Long version;
+
 
 }
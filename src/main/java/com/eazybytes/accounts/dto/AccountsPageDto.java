@@ -0,0 +1,16 @@
+package com.eazybytes.accounts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data @AllArgsConstructor
+@NoArgsConstructor
+public class AccountsPageDto {
+
+    private List<AccountsDto> accounts;
+    private String nextCursor;
+
+}
@@ -0,0 +1,8 @@
+package com.eazybytes.accounts.dto;
+
+/**
+ * Read-only projection of the columns the API returns for an account. Built directly by the query,
+ * no Accounts entity is hydrated or tracked by the persistence context.
+ */
+public record AccountsView(String accountNumber, String name, String email, String mobileNumber, long version) {
+}
@@ -0,0 +1,17 @@
+package com.eazybytes.accounts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @AllArgsConstructor
+@NoArgsConstructor
+public class BatchItemResponseDto {
+
+    private int index;
+    private String accountNumber;
+    private String email;
+    private String statusCode;
+    private String statusMsg;
+
+}
@@ -0,0 +1,27 @@
+package com.eazybytes.accounts.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of an order placed asynchronously. statusCode and statusMsg are those the synchronous create
+ * would have answered with once the order is placed or has failed, 202 while it is still queued.
+ */
+@Data @EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class OrderStatusDto extends ResponseDto {
+
+    public static final String PENDING = "PENDING";
+    public static final String PLACED = "PLACED";
+    public static final String FAILED = "FAILED";
+
+    private String orderId;
+    private String status;
+
+    public OrderStatusDto(String orderId, String status, String statusCode, String statusMsg) {
+        super(statusCode, statusMsg);
+        this.orderId = orderId;
+        this.status = status;
+    }
+}
@@ -0,0 +1,99 @@
+package com.eazybytes.accounts.entities;
+
+import com.eazybytes.accounts.id.IdGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Stores a canonical UUID account number as its 16 raw bytes instead of a 36 character string,
+ * while the entity, DTOs and API keep the string form. Byte order follows the string form, so
+ * sorting by the column keeps the same order.
+ * <p>
+ * A Hibernate type rather than a JPA AttributeConverter: converters are not applied to @Id attributes.
+ * Only mapped with the binary-account-number profile, see META-INF/orm-binary-account-number.xml.
+ */
+public class AccountNumberBinaryType implements UserType<String> {
+
+    public static byte[] toBytes(String accountNumber) {
+        // UUID.fromString also accepts shortened groups, which would not survive the round trip
+        if (!IdGenerator.isCanonicalUuid(accountNumber)) {
+            throw new IllegalArgumentException("Account number is not a canonical UUID: " + accountNumber);
+        }
+        UUID uuid = UUID.fromString(accountNumber);
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(byte[] column) {
+        ByteBuffer buffer = ByteBuffer.wrap(column);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+            throws SQLException {
+        byte[] column = rs.getBytes(position);
+        return column == null ? null : fromBytes(column);
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+            throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, toBytes(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+}
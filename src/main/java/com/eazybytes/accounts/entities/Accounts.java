@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(name = "accounts", indexes = {
+        @Index(name = "uk_accounts_email", columnList = "email", unique = true),
+        @Index(name = "idx_accounts_created_at_account_number", columnList = "created_at, account_number")
+})
 @Getter @Setter @ToString @AllArgsConstructor @NoArgsConstructor
 public class Accounts extends  BaseEntity {
 
@@ -20,4 +24,9 @@ public class Accounts extends  BaseEntity {
 
     @Column(name="mobile_number")
     private String mobileNumber;
+
+    // Primitive, so a set account number still decides between persist and merge in save()
+    @Version
+    @Column(name="version")
+    private long version;
 }
@@ -0,0 +1,29 @@
+package com.eazybytes.accounts.id;
+
+import java.util.UUID;
+
+/**
+ * Source of account numbers and order ids. The implementation is chosen with the
+ * {@code id-generator.type} property, see {@link com.eazybytes.accounts.config.IdGeneratorConfig}.
+ */
+public interface IdGenerator {
+
+    String nextId();
+
+    /**
+     * True for the canonical 36 character UUID form that every generator produces, and with it every account
+     * number. UUID.fromString on its own also accepts shortened groups.
+     */
+    static boolean isCanonicalUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return false;
+        }
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+}
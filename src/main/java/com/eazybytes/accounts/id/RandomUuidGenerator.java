@@ -0,0 +1,15 @@
+package com.eazybytes.accounts.id;
+
+import java.util.UUID;
+
+/**
+ * Random version 4 UUIDs from the shared SecureRandom, the previous behaviour.
+ */
+public class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public String nextId() {
+        return UUID.randomUUID().toString();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.eazybytes.accounts.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Version 7 UUIDs (RFC 9562): 48 bits of Unix milliseconds followed by 74 random bits.
+ * <p>
+ * IDs sort by creation time, so new rows land at the right edge of the primary key index instead of
+ * on random pages. The random bits come from {@link ThreadLocalRandom}, which needs no lock or shared
+ * state; the IDs are unique, not unguessable, which is all account and order numbers need.
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    @Override
+    public String nextId() {
+        return nextUuid().toString();
+    }
+
+    public UUID nextUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long timestamp = System.currentTimeMillis() & 0xFFFF_FFFF_FFFFL;
+        long mostSigBits = (timestamp << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+}
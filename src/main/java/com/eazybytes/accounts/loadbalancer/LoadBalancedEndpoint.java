@@ -0,0 +1,130 @@
+package com.eazybytes.accounts.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One instance of a downstream service with the state the {@link PeakEwmaLoadBalancer} selects on:
+ * calls in flight, a peak EWMA of response latency and passive ejection after consecutive failures.
+ */
+public class LoadBalancedEndpoint {
+
+    private final URI uri;
+
+    private final long decayNanos;
+
+    private final long penaltyNanos;
+
+    private final Counter requests;
+
+    private final Counter ejections;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    // Guarded by this
+    private double ewmaNanos;
+
+    private long lastObservedNanos;
+
+    private volatile long ejectedUntilNanos;
+
+    LoadBalancedEndpoint(URI uri, long decayNanos, long penaltyNanos, Counter requests, Counter ejections) {
+        this.uri = uri;
+        this.decayNanos = decayNanos;
+        this.penaltyNanos = penaltyNanos;
+        this.requests = requests;
+        this.ejections = ejections;
+        this.lastObservedNanos = System.nanoTime();
+        this.ejectedUntilNanos = lastObservedNanos;
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    public String name() {
+        return uri.getAuthority();
+    }
+
+    public int outstanding() {
+        return outstanding.get();
+    }
+
+    public synchronized double ewmaMillis() {
+        return decayedEwmaNanos(System.nanoTime()) / 1_000_000.0;
+    }
+
+    public boolean isEjected(long nowNanos) {
+        return nowNanos - ejectedUntilNanos < 0;
+    }
+
+    /*
+        Expected wait for a new call: latency times the calls it would queue behind. While calls are in flight the
+        instance is not idle, so the average does not decay; an instance with calls in flight and no latency known
+        yet, cold or stalled before its first answer, costs the penalty so that it is not picked again and again.
+     */
+    synchronized double cost() {
+        int inFlight = outstanding.get();
+        if (inFlight == 0) {
+            return decayedEwmaNanos(System.nanoTime());
+        }
+        if (ewmaNanos == 0) {
+            return penaltyNanos + inFlight;
+        }
+        return ewmaNanos * (inFlight + 1);
+    }
+
+    void start() {
+        requests.increment();
+        outstanding.incrementAndGet();
+    }
+
+    void finish() {
+        outstanding.decrementAndGet();
+    }
+
+    /*
+        Peak EWMA: a slower sample replaces the average at once, faster samples pull it down with a weight
+        that grows with the time since the previous sample. A slow instance is avoided immediately and
+        only trusted again after it has answered quickly for a while.
+     */
+    synchronized void observe(long latencyNanos) {
+        long now = System.nanoTime();
+        double decayed = decayedEwmaNanos(now);
+        if (latencyNanos > decayed) {
+            ewmaNanos = latencyNanos;
+        } else {
+            ewmaNanos = decayed + latencyNanos * (1 - decayWeight(now));
+        }
+        lastObservedNanos = now;
+    }
+
+    // Without samples the average decays towards zero, so an instance that got no calls after a slow or failed one
+    // is tried again eventually instead of being starved for good
+    private double decayedEwmaNanos(long now) {
+        return ewmaNanos * decayWeight(now);
+    }
+
+    private double decayWeight(long now) {
+        return Math.exp(-(double) Math.max(0, now - lastObservedNanos) / decayNanos);
+    }
+
+    void succeeded() {
+        consecutiveFailures.set(0);
+    }
+
+    // True if this failure ejected the endpoint
+    boolean failed(int ejectAfterFailures, long ejectionNanos) {
+        if (consecutiveFailures.incrementAndGet() < ejectAfterFailures) {
+            return false;
+        }
+        consecutiveFailures.set(0);
+        ejectedUntilNanos = System.nanoTime() + ejectionNanos;
+        ejections.increment();
+        return true;
+    }
+}
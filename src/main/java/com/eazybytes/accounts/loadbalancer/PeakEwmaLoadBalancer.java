@@ -0,0 +1,161 @@
+package com.eazybytes.accounts.loadbalancer;
+
+import com.eazybytes.accounts.resilience.DownstreamFailurePredicate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Client side load balancing for a WebClient: every request is sent to one of several instances of the
+ * downstream service, the host and port of the request URL are replaced by the chosen instance's.
+ * <p>
+ * Selection is "power of two choices" over peak EWMA cost: two healthy instances are picked at random and
+ * the one with the lower latency x (calls in flight + 1) gets the request. An instance that fails
+ * {@code ejectAfterFailures} times in a row (connection errors, timeouts, 5xx) is left out for
+ * {@code ejectionTime}. If every instance is ejected, all of them are used again rather than failing every call.
+ * <p>
+ * A failed call is charged at least {@code failurePenalty} as latency. Failures often come back fast, a 503 or a
+ * refused connection, and counted at face value they would make a failing instance look like the cheapest one.
+ * An instance with calls in flight but no latency known yet costs the penalty as well.
+ */
+public class PeakEwmaLoadBalancer implements ExchangeFilterFunction {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PeakEwmaLoadBalancer.class);
+
+    private final List<LoadBalancedEndpoint> endpoints;
+
+    private final int ejectAfterFailures;
+
+    private final long ejectionNanos;
+
+    private final long failurePenaltyNanos;
+
+    private final Predicate<Throwable> failure = new DownstreamFailurePredicate();
+
+    public PeakEwmaLoadBalancer(MeterRegistry meterRegistry, String name, List<URI> instances, Duration decayTime,
+                                int ejectAfterFailures, Duration ejectionTime, Duration failurePenalty) {
+        if (instances.isEmpty()) {
+            throw new IllegalArgumentException("No instances configured for " + name);
+        }
+        this.endpoints = instances.stream()
+                .map(uri -> new LoadBalancedEndpoint(uri, decayTime.toNanos(), failurePenalty.toNanos(),
+                        Counter.builder("accounts.loadbalancer.requests")
+                                .description("Requests sent to the instance")
+                                .tags("name", name, "instance", uri.getAuthority())
+                                .register(meterRegistry),
+                        Counter.builder("accounts.loadbalancer.ejections")
+                                .description("Times the instance was ejected after consecutive failures")
+                                .tags("name", name, "instance", uri.getAuthority())
+                                .register(meterRegistry)))
+                .toList();
+        this.ejectAfterFailures = ejectAfterFailures;
+        this.ejectionNanos = ejectionTime.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+
+        for (LoadBalancedEndpoint endpoint : endpoints) {
+            Gauge.builder("accounts.loadbalancer.outstanding", endpoint, LoadBalancedEndpoint::outstanding)
+                    .description("Calls in flight to the instance")
+                    .tags("name", name, "instance", endpoint.name())
+                    .register(meterRegistry);
+            Gauge.builder("accounts.loadbalancer.latency.ewma", endpoint, LoadBalancedEndpoint::ewmaMillis)
+                    .description("Peak EWMA of the instance's response latency")
+                    .tags("name", name, "instance", endpoint.name())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("accounts.loadbalancer.ejected", endpoint, e -> e.isEjected(System.nanoTime()) ? 1 : 0)
+                    .description("1 while the instance is ejected after consecutive failures")
+                    .tags("name", name, "instance", endpoint.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<LoadBalancedEndpoint> endpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        // Deferred so that every retry or hedge picks an instance of its own
+        return Mono.defer(() -> {
+            LoadBalancedEndpoint endpoint = choose();
+            URI url = UriComponentsBuilder.fromUri(request.url())
+                    .scheme(endpoint.uri().getScheme())
+                    .host(endpoint.uri().getHost())
+                    .port(endpoint.uri().getPort())
+                    .build(true)
+                    .toUri();
+
+            long start = System.nanoTime();
+            endpoint.start();
+            return next.exchange(ClientRequest.from(request).url(url).build())
+                    .doOnSuccess(response -> {
+                        if (response != null && response.statusCode().is5xxServerError()) {
+                            failed(endpoint, start);
+                        } else {
+                            endpoint.observe(System.nanoTime() - start);
+                            endpoint.succeeded();
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (failure.test(error)) {
+                            failed(endpoint, start);
+                        } else {
+                            endpoint.observe(System.nanoTime() - start);
+                        }
+                    })
+                    // A cancelled call, for example the loser of a hedge, still tells how slow the instance was
+                    .doOnCancel(() -> endpoint.observe(System.nanoTime() - start))
+                    .doFinally(signal -> endpoint.finish());
+        });
+    }
+
+    LoadBalancedEndpoint choose() {
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+        long now = System.nanoTime();
+        List<LoadBalancedEndpoint> healthy = endpoints.stream()
+                .filter(endpoint -> !endpoint.isEjected(now))
+                .toList();
+        List<LoadBalancedEndpoint> candidates = healthy.isEmpty() ? endpoints : healthy;
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        LoadBalancedEndpoint a = candidates.get(first);
+        LoadBalancedEndpoint b = candidates.get(second);
+        double aCost = a.cost();
+        double bCost = b.cost();
+        if (aCost != bCost) {
+            return aCost < bCost ? a : b;
+        }
+        // Equal cost, typically two idle instances without latency samples yet
+        return a.outstanding() <= b.outstanding() ? a : b;
+    }
+
+    private void failed(LoadBalancedEndpoint endpoint, long start) {
+        endpoint.observe(Math.max(System.nanoTime() - start, failurePenaltyNanos));
+        if (endpoint.failed(ejectAfterFailures, ejectionNanos)) {
+            LOGGER.warn("Ejected {} for {}ms after {} consecutive failures", endpoint.name(),
+                    ejectionNanos / 1_000_000, ejectAfterFailures);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.eazybytes.accounts.mapper;
 
 import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsView;
 import com.eazybytes.accounts.entities.Accounts;
 
 public class AccountsMapper {
@@ -10,6 +11,16 @@ public class AccountsMapper {
         accountsDto.setEmail(accounts.getEmail());
         accountsDto.setName(accounts.getName());
         accountsDto.setMobileNumber(accounts.getMobileNumber());
+        accountsDto.setVersion(accounts.getVersion());
+        return accountsDto;
+    }
+
+    public static AccountsDto mapToAccountsDto(AccountsView accountsView, AccountsDto accountsDto) {
+        accountsDto.setAccountNumber(accountsView.accountNumber());
+        accountsDto.setEmail(accountsView.email());
+        accountsDto.setName(accountsView.name());
+        accountsDto.setMobileNumber(accountsView.mobileNumber());
+        accountsDto.setVersion(accountsView.version());
         return accountsDto;
     }
 
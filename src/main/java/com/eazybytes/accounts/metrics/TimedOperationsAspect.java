@@ -0,0 +1,109 @@
+package com.eazybytes.accounts.metrics;
+
+import com.eazybytes.accounts.dto.ResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+    Times every public service method (accounts.service) and every notification send (accounts.notification.send).
+    Mono and Flux results are timed until they complete, error or are cancelled (outcome UNKNOWN).
+    The outcome tag follows http.server.requests: SUCCESS, CLIENT_ERROR or SERVER_ERROR, taken from the
+    @ResponseStatus of a thrown exception or from the status code of a returned ResponseDto.
+    Downstream WebClient calls are timed by Boot itself as http.client.requests.
+ */
+@Aspect
+@Component
+public class TimedOperationsAspect {
+
+    public static final String SERVICE_TIMER = "accounts.service";
+    public static final String NOTIFICATION_TIMER = "accounts.notification.send";
+
+    private final MeterRegistry meterRegistry;
+
+    public TimedOperationsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.eazybytes.accounts.service.impl.*.*(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * com.eazybytes.accounts.publisher.NotificationProducer.sendMessage(..))")
+    public Object timeNotificationSend(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(NOTIFICATION_TIMER, joinPoint);
+    }
+
+    private Object time(String timerName, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        }
+        catch (Throwable throwable) {
+            stop(sample, timerName, joinPoint, outcome(null, throwable), throwable);
+            throw throwable;
+        }
+
+        // Reactive results are timed from subscription until they terminate, not until they are assembled
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return mono
+                        .doOnSuccess(value -> stop(subscribed, timerName, joinPoint, outcome(value, null), null))
+                        .doOnError(error -> stop(subscribed, timerName, joinPoint, outcome(null, error), error))
+                        .doOnCancel(() -> stop(subscribed, timerName, joinPoint, Outcome.UNKNOWN, null));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return flux
+                        .doOnComplete(() -> stop(subscribed, timerName, joinPoint, Outcome.SUCCESS, null))
+                        .doOnError(error -> stop(subscribed, timerName, joinPoint, outcome(null, error), error))
+                        .doOnCancel(() -> stop(subscribed, timerName, joinPoint, Outcome.UNKNOWN, null));
+            });
+        }
+        stop(sample, timerName, joinPoint, outcome(result, null), null);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String timerName, ProceedingJoinPoint joinPoint, Outcome outcome, Throwable error) {
+        sample.stop(Timer.builder(timerName)
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome.name())
+                .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                .register(meterRegistry));
+    }
+
+    private static Outcome outcome(Object result, Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return Outcome.forStatus(responseException.getStatusCode().value());
+        }
+        if (error != null) {
+            ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(error.getClass(), ResponseStatus.class);
+            return responseStatus == null ? Outcome.SERVER_ERROR : Outcome.forStatus(responseStatus.code().value());
+        }
+        // The order service reports downstream failures in the returned ResponseDto instead of throwing
+        if (result instanceof ResponseDto responseDto && responseDto.getStatusCode() != null) {
+            try {
+                return Outcome.forStatus(Integer.parseInt(responseDto.getStatusCode()));
+            }
+            catch (NumberFormatException e) {
+                return Outcome.UNKNOWN;
+            }
+        }
+        return Outcome.SUCCESS;
+    }
+}
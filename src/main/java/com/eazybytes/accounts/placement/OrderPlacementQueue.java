@@ -0,0 +1,214 @@
+package com.eazybytes.accounts.placement;
+
+import com.eazybytes.accounts.constants.OrdersConstants;
+import com.eazybytes.accounts.dto.OrderStatusDto;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Places orders in the background: {@link #submit} assigns the order id, queues the order and returns at once,
+ * a fixed pool of workers sends the queued orders to the orders service. The queue is bounded, when it is full
+ * new orders are rejected rather than piling up in memory. The outcome of each order is kept for
+ * {@code statusTtl} so that clients can poll for it.
+ * <p>
+ * Queued orders live in memory only: they are lost if the process dies, on shutdown the workers get
+ * {@code drainTimeout} to place what is left.
+ */
+public class OrderPlacementQueue {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderPlacementQueue.class);
+
+    private record PendingOrder(String receiverEmail, OrdersDto order, long acceptedNanos) {
+    }
+
+    private final boolean enabled;
+
+    private final BlockingQueue<PendingOrder> queue;
+
+    private final BiFunction<String, OrdersDto, Mono<ResponseDto>> placer;
+
+    private final Supplier<String> ids;
+
+    private final Cache<String, OrderStatusDto> statuses;
+
+    private final Duration drainTimeout;
+
+    private final ExecutorService executor;
+
+    private volatile boolean running = true;
+
+    private final Counter accepted;
+
+    private final Counter rejected;
+
+    private final Counter placed;
+
+    private final Counter failed;
+
+    private final Timer wait;
+
+    public OrderPlacementQueue(MeterRegistry meterRegistry, boolean enabled, int capacity, int workers,
+                               Duration drainTimeout, long statusMaximumSize, Duration statusTtl,
+                               Supplier<String> ids, BiFunction<String, OrdersDto, Mono<ResponseDto>> placer) {
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.placer = placer;
+        this.ids = ids;
+        this.drainTimeout = drainTimeout;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(statusMaximumSize)
+                .expireAfterWrite(statusTtl)
+                .build();
+
+        Gauge.builder("accounts.orders.placement.queue.depth", queue, BlockingQueue::size)
+                .description("Orders waiting for a placement worker")
+                .register(meterRegistry);
+        Gauge.builder("accounts.orders.placement.lag", this, OrderPlacementQueue::lagSeconds)
+                .description("How long the oldest queued order has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.wait = Timer.builder("accounts.orders.placement.wait")
+                .description("Time from accepting an order to a worker starting to place it")
+                .register(meterRegistry);
+        this.accepted = placements(meterRegistry, "accepted");
+        this.rejected = placements(meterRegistry, "rejected");
+        this.placed = placements(meterRegistry, "placed");
+        this.failed = placements(meterRegistry, "failed");
+
+        if (enabled) {
+            // Daemon threads, so that workers idling on the queue never keep the JVM alive; shutdown drains them
+            this.executor = Executors.newFixedThreadPool(workers,
+                    Thread.ofPlatform().name("order-placement-", 1).daemon().factory());
+            for (int i = 0; i < workers; i++) {
+                executor.execute(this::work);
+            }
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Assigns the order id and queues the order. Returns its pending status, or null if the order is not taken:
+     * the queue is full or the service is shutting down.
+     */
+    public OrderStatusDto submit(String receiverEmail, OrdersDto orderDto) {
+        if (!enabled) {
+            throw new IllegalStateException("Asynchronous order placement is not enabled");
+        }
+        if (!running) {
+            rejected.increment();
+            return null;
+        }
+        orderDto.setOrderId(ids.get());
+        OrderStatusDto pending = new OrderStatusDto(orderDto.getOrderId(), OrderStatusDto.PENDING,
+                OrdersConstants.STATUS_202, OrdersConstants.MESSAGE_202);
+        // Recorded first, a worker may finish the order before offer returns
+        statuses.put(orderDto.getOrderId(), pending);
+        PendingOrder order = new PendingOrder(receiverEmail, orderDto, System.nanoTime());
+        // Taken back if shutdown started meanwhile, the workers may already have stopped draining
+        if (!queue.offer(order) || (!running && queue.remove(order))) {
+            statuses.invalidate(orderDto.getOrderId());
+            rejected.increment();
+            return null;
+        }
+        accepted.increment();
+        return pending;
+    }
+
+    public OrderStatusDto status(String orderId) {
+        return statuses.getIfPresent(orderId);
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    public void shutdown() {
+        if (executor == null) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            LOGGER.warn("{} queued orders were not placed before shutdown", queue.size());
+        }
+    }
+
+    private void work() {
+        // After shutdown the workers keep going until the queue is empty or they are interrupted
+        while (running || !queue.isEmpty()) {
+            PendingOrder pending;
+            try {
+                pending = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (pending != null) {
+                place(pending);
+            }
+        }
+    }
+
+    private void place(PendingOrder pending) {
+        wait.record(System.nanoTime() - pending.acceptedNanos(), TimeUnit.NANOSECONDS);
+        String orderId = pending.order().getOrderId();
+        ResponseDto response;
+        try {
+            response = placer.apply(pending.receiverEmail(), pending.order()).block();
+        } catch (CallNotPermittedException e) {
+            response = new ResponseDto(OrdersConstants.STATUS_503, OrdersConstants.MESSAGE_503);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Placing order {} failed", orderId, e);
+            response = new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_CREATE);
+        }
+        boolean success = response != null && OrdersConstants.STATUS_201.equals(response.getStatusCode());
+        (success ? placed : failed).increment();
+        statuses.put(orderId, success
+                ? new OrderStatusDto(orderId, OrderStatusDto.PLACED, response.getStatusCode(), response.getStatusMsg())
+                : new OrderStatusDto(orderId, OrderStatusDto.FAILED,
+                        response == null ? OrdersConstants.STATUS_500 : response.getStatusCode(),
+                        response == null ? OrdersConstants.MESSAGE_500_CREATE : response.getStatusMsg()));
+    }
+
+    private double lagSeconds() {
+        PendingOrder oldest = queue.peek();
+        return oldest == null ? 0 : (System.nanoTime() - oldest.acceptedNanos()) / 1_000_000_000.0;
+    }
+
+    private static Counter placements(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("accounts.orders.placement.orders")
+                .description("Orders by outcome of asynchronous placement")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.eazybytes.accounts.repositories;
+
+import com.eazybytes.accounts.entities.Accounts;
+
+import java.util.List;
+
+public interface AccountsBatchRepository {
+
+    /**
+     * Inserts new accounts with plain persist calls so Hibernate can group them into JDBC batches.
+     * Unlike save(), it never issues a select per entity to decide between persist and merge.
+     *
+     * @param accounts accounts that do not exist yet
+     */
+    void persistAll(List<Accounts> accounts);
+
+    /**
+     * Inserts one new account with a plain persist call. The account number is assigned before insert,
+     * so save() would take it for an existing entity and select it first to merge.
+     *
+     * @param account account that does not exist yet
+     */
+    void persist(Accounts account);
+
+}
@@ -0,0 +1,31 @@
+package com.eazybytes.accounts.repositories;
+
+import com.eazybytes.accounts.entities.Accounts;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+
+import java.util.List;
+
+public class AccountsBatchRepositoryImpl implements AccountsBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void persistAll(List<Accounts> accounts) {
+        accounts.forEach(entityManager::persist);
+        entityManager.flush();
+        // Do not keep the inserted entities managed for the rest of the request
+        entityManager.clear();
+    }
+
+    @Override
+    @Transactional
+    public void persist(Accounts account) {
+        entityManager.persist(account);
+        // Surfaces a unique email violation here, not at some later commit
+        entityManager.flush();
+    }
+}
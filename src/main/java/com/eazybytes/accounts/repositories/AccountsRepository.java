@@ -1,20 +1,101 @@
 package com.eazybytes.accounts.repositories;
 
+import com.eazybytes.accounts.dto.AccountsView;
 import com.eazybytes.accounts.entities.Accounts;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface AccountsRepository extends JpaRepository<Accounts, Long> {
+public interface AccountsRepository extends JpaRepository<Accounts, Long>, AccountsBatchRepository {
 
     Optional<Accounts> findByEmail(String email);
 
+    // Projection read path: selects the five returned columns into a record, call from a read-only transaction
+    @Query("select new com.eazybytes.accounts.dto.AccountsView(a.accountNumber, a.name, a.email, a.mobileNumber, a.version)" +
+            " from Accounts a where a.email = :email")
+    Optional<AccountsView> findViewByEmail(@Param("email") String email);
+
+    @Query("select new com.eazybytes.accounts.dto.AccountsView(a.accountNumber, a.name, a.email, a.mobileNumber, a.version)" +
+            " from Accounts a where a.email in :emails")
+    List<AccountsView> findViewsByEmailIn(@Param("emails") Collection<String> emails);
+
+    // Answered from the unique email index, no entity is loaded
+    boolean existsByEmail(String email);
+
+    @Query("select a.email from Accounts a where a.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Must be consumed inside a transaction; rows are fetched from the JDBC cursor in pages of the fetch size
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Accounts a")
+    Stream<Accounts> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select a.email from Accounts a")
+    Stream<String> streamAllEmails();
+
+    // Keyset paging: both queries seek on idx_accounts_created_at_account_number, so every page costs the same
+    @Query("select a from Accounts a order by a.createdAt, a.accountNumber")
+    List<Accounts> findFirstPage(Limit limit);
+
+    @Query("select a from Accounts a where a.createdAt >= :createdAt" +
+            " and (a.createdAt > :createdAt or a.accountNumber > :accountNumber)" +
+            " order by a.createdAt, a.accountNumber")
+    List<Accounts> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                 @Param("accountNumber") String accountNumber,
+                                 Limit limit);
+
     @Transactional
     @Modifying
     void deleteByAccountNumber(String accountNumber);
 
+    // Single statement mutations, the returned row count tells success from not found.
+    // Auditing listeners do not run for JPQL updates, so the audit columns are passed in.
+    @Transactional
+    @Modifying
+    @Query("update Accounts a set a.name = :name, a.mobileNumber = :mobileNumber, a.version = a.version + 1," +
+            " a.updatedAt = :updatedAt, a.updatedBy = :updatedBy where a.email = :email")
+    int updateByEmail(@Param("email") String email,
+                      @Param("name") String name,
+                      @Param("mobileNumber") String mobileNumber,
+                      @Param("updatedAt") LocalDateTime updatedAt,
+                      @Param("updatedBy") String updatedBy);
+
+    // Compare-and-set on the version, a stale version matches no row
+    @Transactional
+    @Modifying
+    @Query("update Accounts a set a.name = :name, a.mobileNumber = :mobileNumber, a.version = a.version + 1," +
+            " a.updatedAt = :updatedAt, a.updatedBy = :updatedBy" +
+            " where a.email = :email and a.accountNumber = :accountNumber and a.version = :version")
+    int updateByEmailAndVersion(@Param("email") String email,
+                                @Param("accountNumber") String accountNumber,
+                                @Param("version") long version,
+                                @Param("name") String name,
+                                @Param("mobileNumber") String mobileNumber,
+                                @Param("updatedAt") LocalDateTime updatedAt,
+                                @Param("updatedBy") String updatedBy);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Accounts a where a.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
 }
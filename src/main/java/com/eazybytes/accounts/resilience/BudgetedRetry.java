@@ -0,0 +1,48 @@
+package com.eazybytes.accounts.resilience;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Retry strategy for {@code retryWhen} that only retries when the {@link RequestBudget} has a token left.
+ * <p>
+ * Retries back off exponentially with full jitter. When a retry is not allowed the original error is propagated
+ * unchanged, so callers keep mapping WebClient exceptions to status codes as before instead of seeing
+ * Reactor's RetryExhaustedException.
+ */
+public class BudgetedRetry extends Retry {
+
+    private final int maxRetries;
+
+    private final Duration backoff;
+
+    private final RequestBudget budget;
+
+    private final Predicate<Throwable> retryable;
+
+    public BudgetedRetry(int maxRetries, Duration backoff, RequestBudget budget, Predicate<Throwable> retryable) {
+        this.maxRetries = maxRetries;
+        this.backoff = backoff;
+        this.budget = budget;
+        this.retryable = retryable;
+    }
+
+    @Override
+    public Publisher<?> generateCompanion(Flux<RetrySignal> retrySignals) {
+        return retrySignals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            // The budget is asked last, a token is only spent on a retry that will actually be sent
+            if (signal.totalRetriesInARow() >= maxRetries || !retryable.test(failure) || !budget.tryAcquire()) {
+                return Mono.error(failure);
+            }
+            long ceilingMillis = backoff.toMillis() << Math.min(signal.totalRetriesInARow(), 16);
+            return Mono.delay(Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceilingMillis + 1)));
+        });
+    }
+}
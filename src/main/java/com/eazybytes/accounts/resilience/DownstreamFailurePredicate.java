@@ -0,0 +1,24 @@
+package com.eazybytes.accounts.resilience;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Decides which errors of a downstream call say that the downstream service is unhealthy: connection failures,
+ * timeouts and 5xx responses. Those count as failures for the circuit breakers and are worth a retry.
+ * A 4xx response is the caller's problem, it neither opens a circuit nor gets retried.
+ */
+public class DownstreamFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        // Response timeouts of the Netty client also arrive as WebClientRequestException
+        return throwable instanceof WebClientRequestException || throwable instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,122 @@
+package com.eazybytes.accounts.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hedging for idempotent reads: when a call has not answered after the given percentile of recent latencies,
+ * the same call is sent a second time and whichever signals first is used, the other one is cancelled.
+ * <p>
+ * Each hedge needs a token from a {@link RequestBudget}, so hedging cannot double the load on a slow downstream.
+ * A failure of the first call ends the hedged call at once, a failed hedge leaves the first call to decide.
+ * The delay falls back to {@code initialDelay} until latencies have been recorded and never drops below
+ * {@code minDelay}; it is recomputed at most once per second.
+ */
+public class HedgedRequests {
+
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+
+    private final Duration initialDelay;
+
+    private final Duration minDelay;
+
+    private final RequestBudget budget;
+
+    private final Timer latency;
+
+    private final Counter sent;
+
+    private final Counter won;
+
+    private final Counter denied;
+
+    private volatile Duration delay;
+
+    private volatile long delayComputedNanos;
+
+    public HedgedRequests(MeterRegistry meterRegistry, String name, boolean enabled, double percentile,
+                          Duration initialDelay, Duration minDelay, RequestBudget budget) {
+        this.enabled = enabled;
+        this.initialDelay = initialDelay;
+        this.minDelay = minDelay;
+        this.budget = budget;
+        this.delay = initialDelay;
+        this.delayComputedNanos = System.nanoTime();
+
+        latency = Timer.builder("accounts.hedging.latency")
+                .description("Latency of single calls, its percentile is the delay before a hedge is sent")
+                .tag("name", name)
+                .publishPercentiles(percentile)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(meterRegistry);
+        sent = hedgeCounter(meterRegistry, name, "sent");
+        won = hedgeCounter(meterRegistry, name, "won");
+        denied = hedgeCounter(meterRegistry, name, "denied");
+    }
+
+    // The call must be cold: it is subscribed to once for the first request and once more for the hedge
+    public <T> Mono<T> hedge(Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            Mono<T> first = timed(call);
+            Mono<T> second = Mono.delay(currentDelay())
+                    .flatMap(tick -> {
+                        if (!budget.tryAcquire()) {
+                            denied.increment();
+                            return Mono.<T>never();
+                        }
+                        sent.increment();
+                        return timed(call)
+                                .doOnNext(value -> won.increment())
+                                .onErrorResume(error -> Mono.never());
+                    });
+            budget.recordRequest();
+            return Mono.firstWithSignal(first, second);
+        });
+    }
+
+    private <T> Mono<T> timed(Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            // A cancelled loser is recorded with the time it had taken so far, leaving it out would hide the slow calls
+            return call
+                    .doOnSuccess(value -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnCancel(() -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Duration currentDelay() {
+        long now = System.nanoTime();
+        if (now - delayComputedNanos > DELAY_REFRESH_NANOS) {
+            delayComputedNanos = now;
+            delay = computeDelay();
+        }
+        return delay;
+    }
+
+    private Duration computeDelay() {
+        ValueAtPercentile[] percentiles = latency.takeSnapshot().percentileValues();
+        if (percentiles.length == 0 || percentiles[0].value() <= 0) {
+            return initialDelay;
+        }
+        Duration observed = Duration.ofNanos((long) percentiles[0].value(TimeUnit.NANOSECONDS));
+        return observed.compareTo(minDelay) < 0 ? minDelay : observed;
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("accounts.hedging.requests")
+                .description("Hedges sent, hedges that answered first and hedges the budget did not allow")
+                .tags("name", name, "result", result)
+                .register(meterRegistry);
+    }
+}
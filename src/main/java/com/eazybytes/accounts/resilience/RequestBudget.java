@@ -0,0 +1,88 @@
+package com.eazybytes.accounts.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that limits extra requests, such as retries, to a share of the original traffic.
+ * <p>
+ * Every original request deposits {@code ratio} tokens and every extra request needs a whole token, so with a
+ * ratio of 0.1 a failing downstream sees at most about 10% more calls than it would without retries.
+ * {@code minPerSecond} tokens are added over time as well, so that a few retries are still possible at low traffic.
+ * The balance never exceeds {@code maxBalance}, which bounds the burst after a long quiet period.
+ */
+public class RequestBudget {
+
+    private final double ratio;
+
+    private final double minPerSecond;
+
+    private final double maxBalance;
+
+    private double balance;
+
+    private long lastRefillNanos;
+
+    private final AtomicLong acquired = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public RequestBudget(MeterRegistry meterRegistry, String name, double ratio, double minPerSecond, double maxBalance) {
+        if (ratio < 0 || minPerSecond < 0 || maxBalance < 1) {
+            throw new IllegalArgumentException("Invalid request budget " + name + ": ratio and min-per-second must not be "
+                    + "negative and max-balance must allow at least one request");
+        }
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxBalance = maxBalance;
+        this.lastRefillNanos = System.nanoTime();
+
+        Gauge.builder("accounts.request.budget.balance", this, RequestBudget::balance)
+                .description("Extra requests the budget currently allows")
+                .tag("name", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("accounts.request.budget.requests", acquired, AtomicLong::get)
+                .description("Extra requests that asked the budget for a token")
+                .tags("name", name, "result", "acquired")
+                .register(meterRegistry);
+        FunctionCounter.builder("accounts.request.budget.requests", rejected, AtomicLong::get)
+                .description("Extra requests that asked the budget for a token")
+                .tags("name", name, "result", "rejected")
+                .register(meterRegistry);
+    }
+
+    // Called once per original request, never for the extra requests themselves
+    public synchronized void recordRequest() {
+        refill();
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    // True if one extra request may be sent, the token is taken out of the budget
+    public boolean tryAcquire() {
+        synchronized (this) {
+            refill();
+            // Deposits of 0.1 do not add up to exactly 1.0 in floating point
+            if (balance >= 1 - 1e-9) {
+                balance = Math.max(0, balance - 1);
+                acquired.incrementAndGet();
+                return true;
+            }
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public synchronized double balance() {
+        refill();
+        return balance;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        balance = Math.min(maxBalance, balance + (now - lastRefillNanos) / 1_000_000_000.0 * minPerSecond);
+        lastRefillNanos = now;
+    }
+}
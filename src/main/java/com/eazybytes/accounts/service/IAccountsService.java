@@ -1,11 +1,21 @@
 package com.eazybytes.accounts.service;
 
+import com.eazybytes.accounts.dto.AccountsBatchFetchDto;
 import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.dto.BatchItemResponseDto;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface IAccountsService {
 
     void createAccount(AccountsDto accountDto);
+    List<BatchItemResponseDto> createAccounts(List<AccountsDto> accountDtos);
     AccountsDto fetchAccount(String email);
+    AccountsBatchFetchDto fetchAccounts(List<String> emails);
+    void exportAccounts(Consumer<AccountsDto> consumer);
+    AccountsPageDto listAccounts(String cursor, int size);
     boolean updateAccount(AccountsDto accountDto);
     boolean deleteAccount(String email);
 
@@ -0,0 +1,17 @@
+package com.eazybytes.accounts.service;
+
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveOrderService {
+    Mono<ResponseDto> createOrder(String receiverEmail, OrdersDto orderDto);
+    Mono<ResponseDto> placeOrder(String receiverEmail, OrdersDto orderDto);
+    Flux<OrdersDto> fetchAllOrders(String accountNumber);
+    Mono<Flux<OrdersDto>> streamAllOrders(String accountNumber);
+    Mono<OrdersDto> fetchOrder(String orderId);
+    Mono<ResponseDto> updateOrderDetails(OrdersDto orderDto);
+    Mono<ResponseDto> deleteOrderDetails(String orderId);
+
+}
@@ -1,17 +1,50 @@
 package com.eazybytes.accounts.service.impl;
 
+import com.eazybytes.accounts.cache.EmailBloomFilter;
+import com.eazybytes.accounts.config.CacheConfig;
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.AccountsBatchFetchDto;
 import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.dto.AccountsView;
+import com.eazybytes.accounts.dto.BatchItemResponseDto;
 import com.eazybytes.accounts.entities.Accounts;
 import com.eazybytes.accounts.exception.AccountAlreadyExistsException;
+import com.eazybytes.accounts.exception.InvalidRequestException;
+import com.eazybytes.accounts.exception.PreconditionFailedException;
 import com.eazybytes.accounts.exception.ResourceNotFoundException;
+import com.eazybytes.accounts.id.IdGenerator;
 import com.eazybytes.accounts.mapper.AccountsMapper;
 import com.eazybytes.accounts.repositories.AccountsRepository;
 import com.eazybytes.accounts.service.IAccountsService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
@@ -19,20 +52,108 @@ public class AccountsServiceImpl  implements IAccountsService {
 
     private AccountsRepository accountsRepository;
 
+    private Validator validator;
+
+    private EntityManager entityManager;
+
+    private EmailBloomFilter emailBloomFilter;
+
+    private AuditorAware<String> auditorAware;
+
     @Override
     public void createAccount(@Valid AccountsDto accountDto) {
         Accounts account = AccountsMapper.mapToAccounts(accountDto, new Accounts());
-        Optional<Accounts > optionalAccount = accountsRepository.findByEmail(accountDto.getEmail());
-        if(optionalAccount.isPresent()) {
-            throw new AccountAlreadyExistsException("Account already registered with given Email "
-                    + accountDto.getEmail());
+        // A definite miss in the filter means the email is new, only possible hits are checked in the database
+        if(emailBloomFilter.mightContain(accountDto.getEmail())) {
+            if(accountsRepository.existsByEmail(accountDto.getEmail())) {
+                throw new AccountAlreadyExistsException(AccountsConstants.MESSAGE_400_DUPLICATE
+                        + accountDto.getEmail());
+            }
+            emailBloomFilter.recordFalsePositive();
+        }
+        try {
+            accountsRepository.persist(account);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent create of the same email got past the check, the unique email index rejected it
+            if(accountsRepository.existsByEmail(accountDto.getEmail())) {
+                throw new AccountAlreadyExistsException(AccountsConstants.MESSAGE_400_DUPLICATE
+                        + accountDto.getEmail());
+            }
+            throw e;
         }
-        accountsRepository.save(account);
+        emailBloomFilter.add(accountDto.getEmail());
     }
 
     @Override
+    public List<BatchItemResponseDto> createAccounts(List<AccountsDto> accountDtos) {
+        // One set based duplicate check for the whole chunk, limited to the emails the filter might know
+        Set<String> emails = accountDtos.stream()
+                .map(AccountsDto::getEmail)
+                .filter(Objects::nonNull)
+                .filter(emailBloomFilter::mightContain)
+                .collect(Collectors.toSet());
+        Set<String> takenEmails = emails.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(accountsRepository.findExistingEmails(emails));
+        for (int i = takenEmails.size(); i < emails.size(); i++) {
+            emailBloomFilter.recordFalsePositive();
+        }
+
+        List<BatchItemResponseDto> results = new ArrayList<>(accountDtos.size());
+        List<Accounts> accounts = new ArrayList<>(accountDtos.size());
+        Map<String, Integer> indexByEmail = new HashMap<>();
+        for (int i = 0; i < accountDtos.size(); i++) {
+            AccountsDto accountDto = accountDtos.get(i);
+            Set<ConstraintViolation<AccountsDto>> violations = validator.validate(accountDto);
+            if (!violations.isEmpty()) {
+                String violationMsg = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                results.add(new BatchItemResponseDto(i, null, accountDto.getEmail(),
+                        AccountsConstants.STATUS_400, violationMsg));
+            } else if (!takenEmails.add(accountDto.getEmail())) {
+                // Either already stored or repeated earlier in the same request
+                results.add(new BatchItemResponseDto(i, null, accountDto.getEmail(),
+                        AccountsConstants.STATUS_400, AccountsConstants.MESSAGE_400_DUPLICATE + accountDto.getEmail()));
+            } else {
+                accounts.add(AccountsMapper.mapToAccounts(accountDto, new Accounts()));
+                indexByEmail.put(accountDto.getEmail(), i);
+                results.add(new BatchItemResponseDto(i, accountDto.getAccountNumber(), accountDto.getEmail(),
+                        AccountsConstants.STATUS_201, AccountsConstants.MESSAGE_201));
+            }
+        }
+
+        // Each attempt is its own transaction, so a chunk that loses a race can be retried without the losers
+        while (true) {
+            try {
+                accountsRepository.persistAll(accounts);
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent create stored some of the emails after the check, the unique email index rejected them
+                Set<String> lostEmails = accountsRepository.findExistingEmails(indexByEmail.keySet());
+                if (lostEmails.isEmpty()) {
+                    throw e;
+                }
+                accounts.removeIf(account -> lostEmails.contains(account.getEmail()));
+                for (String email : lostEmails) {
+                    int i = indexByEmail.remove(email);
+                    results.set(i, new BatchItemResponseDto(i, null, email,
+                            AccountsConstants.STATUS_400, AccountsConstants.MESSAGE_400_DUPLICATE + email));
+                }
+            }
+        }
+        accounts.forEach(account -> emailBloomFilter.add(account.getEmail()));
+        return results;
+    }
+
+    // sync loads go through StampedCache, a load that overlapped an update or delete is not stored
+    @Override
+    @Cacheable(cacheNames = CacheConfig.ACCOUNTS_CACHE, key = "#email", sync = true)
+    @Transactional(readOnly = true)
     public AccountsDto fetchAccount(String email) {
-        Accounts accounts = accountsRepository.findByEmail(email).orElseThrow(
+        // Read-only transaction: Hibernate skips dirty checking and flushing, the projection is never managed
+        AccountsView accounts = accountsRepository.findViewByEmail(email).orElseThrow(
                 () -> new ResourceNotFoundException("Account", "Email", email)
         );
         AccountsDto accountDto = AccountsMapper.mapToAccountsDto(accounts, new AccountsDto());
@@ -40,18 +161,138 @@ public class AccountsServiceImpl  implements IAccountsService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public AccountsBatchFetchDto fetchAccounts(List<String> emails) {
+        Set<String> uniqueEmails = new LinkedHashSet<>(emails);
+        if (uniqueEmails.size() > AccountsConstants.FETCH_BATCH_MAX_EMAILS) {
+            throw new InvalidRequestException("At most " + AccountsConstants.FETCH_BATCH_MAX_EMAILS
+                    + " emails can be fetched per request");
+        }
+
+        Map<String, AccountsDto> foundByEmail = new HashMap<>();
+        List<String> chunk = new ArrayList<>(AccountsConstants.FETCH_BATCH_CHUNK_SIZE);
+        for (String email : uniqueEmails) {
+            chunk.add(email);
+            if (chunk.size() == AccountsConstants.FETCH_BATCH_CHUNK_SIZE) {
+                fetchChunk(chunk, foundByEmail);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            fetchChunk(chunk, foundByEmail);
+        }
+
+        // Keep the caller's order in both lists
+        List<AccountsDto> found = new ArrayList<>(foundByEmail.size());
+        List<String> missing = new ArrayList<>();
+        for (String email : uniqueEmails) {
+            AccountsDto accountDto = foundByEmail.get(email);
+            if (accountDto != null) {
+                found.add(accountDto);
+            } else {
+                missing.add(email);
+            }
+        }
+        return new AccountsBatchFetchDto(found, missing);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAccounts(Consumer<AccountsDto> consumer) {
+        try (Stream<Accounts> accounts = accountsRepository.streamAll()) {
+            accounts.forEach(account -> {
+                consumer.accept(AccountsMapper.mapToAccountsDto(account, new AccountsDto()));
+                // Drop it from the persistence context so heap stays flat however many rows are exported
+                entityManager.detach(account);
+            });
+        }
+    }
+
+    @Override
+    public AccountsPageDto listAccounts(String cursor, int size) {
+        if (size < 1 || size > AccountsConstants.LIST_MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + AccountsConstants.LIST_MAX_PAGE_SIZE);
+        }
+
+        // One extra row tells whether another page follows without a count query
+        Limit limit = Limit.of(size + 1);
+        List<Accounts> accounts;
+        if (cursor == null || cursor.isEmpty()) {
+            accounts = accountsRepository.findFirstPage(limit);
+        } else {
+            Accounts last = decodeCursor(cursor);
+            accounts = accountsRepository.findPageAfter(last.getCreatedAt(), last.getAccountNumber(), limit);
+        }
+
+        String nextCursor = null;
+        if (accounts.size() > size) {
+            accounts = accounts.subList(0, size);
+            nextCursor = encodeCursor(accounts.get(size - 1));
+        }
+        List<AccountsDto> accountDtos = accounts.stream()
+                .map(account -> AccountsMapper.mapToAccountsDto(account, new AccountsDto()))
+                .toList();
+        return new AccountsPageDto(accountDtos, nextCursor);
+    }
+
+    // The cursor is the sort key of the last returned row; clients treat it as an opaque token
+    private static String encodeCursor(Accounts account) {
+        String key = account.getCreatedAt() + "|" + account.getAccountNumber();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Accounts decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            String accountNumber = key.substring(separator + 1);
+            // Checked here, the binary account number column could not even bind anything else
+            if (!IdGenerator.isCanonicalUuid(accountNumber)) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            Accounts last = new Accounts();
+            last.setCreatedAt(LocalDateTime.parse(key.substring(0, separator)));
+            last.setAccountNumber(accountNumber);
+            return last;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    private void fetchChunk(List<String> emails, Map<String, AccountsDto> foundByEmail) {
+        accountsRepository.findViewsByEmailIn(emails).forEach(accounts ->
+                foundByEmail.put(accounts.email(), AccountsMapper.mapToAccountsDto(accounts, new AccountsDto())));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.ACCOUNTS_CACHE, key = "#accountsDto.email", condition = "#accountsDto != null")
     public boolean updateAccount(AccountsDto accountsDto) {
         boolean isUpdated = false;
         if(accountsDto !=null ){
-            Accounts accounts = accountsRepository.findByEmail(accountsDto.getEmail()).orElseThrow(
-                    () -> new ResourceNotFoundException("Account", "Email", accountsDto.getEmail().toString())
-            );
-
-            String accountNumber = accounts.getAccountNumber();
-            AccountsMapper.mapToAccounts(accountsDto, accounts);
-
-            accounts.setAccountNumber(accountNumber);
-            accounts = accountsRepository.save(accounts);
+            // One UPDATE by email instead of load, merge and save
+            LocalDateTime updatedAt = LocalDateTime.now();
+            String updatedBy = auditorAware.getCurrentAuditor().orElse(null);
+            if(accountsDto.getVersion() == null) {
+                int updatedRows = accountsRepository.updateByEmail(accountsDto.getEmail(),
+                        accountsDto.getName(), accountsDto.getMobileNumber(), updatedAt, updatedBy);
+                if(updatedRows == 0) {
+                    throw new ResourceNotFoundException("Account", "Email", accountsDto.getEmail());
+                }
+            } else {
+                // Conditional write: the version check and the update are the same statement, so no lost updates
+                int updatedRows = accountsRepository.updateByEmailAndVersion(accountsDto.getEmail(),
+                        accountsDto.getAccountNumber(), accountsDto.getVersion(),
+                        accountsDto.getName(), accountsDto.getMobileNumber(), updatedAt, updatedBy);
+                if(updatedRows == 0) {
+                    if(accountsRepository.existsByEmail(accountsDto.getEmail())) {
+                        throw new PreconditionFailedException(AccountsConstants.MESSAGE_412);
+                    }
+                    throw new ResourceNotFoundException("Account", "Email", accountsDto.getEmail());
+                }
+            }
 
             isUpdated = true;
         }
@@ -60,12 +301,13 @@ public class AccountsServiceImpl  implements IAccountsService {
 
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ACCOUNTS_CACHE, key = "#email")
     public boolean deleteAccount(String email) {
-        Accounts account = accountsRepository.findByEmail(email).orElseThrow(
-                () -> new ResourceNotFoundException("Account", "email", email)
-        );
-
-        accountsRepository.deleteByAccountNumber(account.getAccountNumber());
+        // One DELETE by email, no lookup and no entity load
+        if(accountsRepository.deleteByEmail(email) == 0) {
+            throw new ResourceNotFoundException("Account", "email", email);
+        }
+        emailBloomFilter.remove(email);
         return true;
     }
 }
@@ -0,0 +1,279 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.cache.SingleFlight;
+import com.eazybytes.accounts.config.CacheConfig;
+import com.eazybytes.accounts.config.ResilienceConfig;
+import com.eazybytes.accounts.constants.OrdersConstants;
+import com.eazybytes.accounts.dto.NotificationEvent;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.eazybytes.accounts.id.IdGenerator;
+import com.eazybytes.accounts.publisher.NotificationProducer;
+import com.eazybytes.accounts.resilience.HedgedRequests;
+import com.eazybytes.accounts.resilience.RequestBudget;
+import com.eazybytes.accounts.service.IReactiveOrderService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.AllArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class ReactiveOrderServiceImpl implements IReactiveOrderService {
+
+    // Orders decoded ahead of the client while streaming, requested from the orders service in batches of this size
+    private static final int STREAM_BUFFER_SIZE = 256;
+
+    private WebClient webClient;
+
+    private NotificationProducer notificationProducer;
+
+    private IdGenerator idGenerator;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private RequestBudget ordersRetryBudget;
+
+    private Retry ordersRetry;
+
+    private HedgedRequests ordersFetchHedging;
+
+    private HedgedRequests ordersFetchAllHedging;
+
+    private CacheManager cacheManager;
+
+    private SingleFlight<String, OrdersDto> ordersSingleFlight;
+
+    private SingleFlight<String, List<OrdersDto>> accountOrdersSingleFlight;
+
+    @Override
+    public Mono<ResponseDto> createOrder(String receiverEmail, OrdersDto orderDto) {
+        return Mono.defer(() -> {
+            orderDto.setOrderId(idGenerator.nextId());
+            return placeOrder(receiverEmail, orderDto);
+        });
+    }
+
+    // Sends an order whose id is already assigned, used directly by the asynchronous placement queue
+    @Override
+    public Mono<ResponseDto> placeOrder(String receiverEmail, OrdersDto orderDto) {
+        String uri = "/api/orders/create";
+
+        return Mono.defer(() -> webClient.post().uri(uri)
+                        .bodyValue(orderDto)
+                        .retrieve()
+                        .toBodilessEntity())
+                // Not retried, a repeated POST could place the order twice
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(ResilienceConfig.ORDERS_CREATE)))
+                .doOnSubscribe(subscription -> ordersRetryBudget.recordRequest())
+                .doOnSuccess(response -> cacheCreatedOrder(orderDto))
+                // RabbitTemplate blocks on the broker connection, keep it off the Netty event loop
+                .then(Mono.fromRunnable(() -> notificationProducer.sendMessage(orderPlacedEvent(receiverEmail, orderDto)))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .thenReturn(new ResponseDto(OrdersConstants.STATUS_201, OrdersConstants.MESSAGE_201))
+                .onErrorResume(WebClientResponseException.class, e -> { // Handle known exceptions
+                    if (e.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                        return Mono.just(new ResponseDto(OrdersConstants.STATUS_400, OrdersConstants.MESSAGE_400_CREATE));
+                    }
+                    return Mono.just(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_CREATE));
+                })
+                // Any other unexpected error, an open circuit is left to the caller to answer with 503
+                .onErrorResume(e -> !(e instanceof CallNotPermittedException), e -> Mono.just(new ResponseDto(OrdersConstants.STATUS_500, OrdersConstants.MESSAGE_500_CREATE)));
+    }
+
+    @Override
+    public Flux<OrdersDto> fetchAllOrders(String accountNumber) {
+        // URI templates keep the uri tag of http.client.requests free of per-request values
+        String uri = "/api/orders/fetchAll?accountNumber={accountNumber}";
+
+        return Flux.defer(() -> {
+            List<OrdersDto> cached = cachedAccountOrders(accountNumber);
+            if (cached != null) {
+                return Flux.fromIterable(cached);
+            }
+            // Concurrent misses for the same account share one call.
+            // Orders were returned as a Set before, keep duplicates out of the stream
+            return accountOrdersSingleFlight.execute(accountNumber, () -> webClient.get()
+                            .uri(uri, accountNumber)
+                            .retrieve()
+                            .bodyToFlux(OrdersDto.class)
+                            .distinct()
+                            .collectList()
+                            .transform(orders -> protectHedged(ResilienceConfig.ORDERS_FETCH_ALL, orders, ordersFetchAllHedging))
+                            .doOnNext(orders -> cacheAccountOrders(accountNumber, orders)))
+                    .flatMapIterable(orders -> orders);
+        });
+    }
+
+    /*
+        The account's orders without holding them all in memory: the JSON array from the orders service is decoded
+        one order at a time and only as fast as the caller consumes them, at most STREAM_BUFFER_SIZE ahead.
+        The Mono completes once the orders service has answered with a success status, so that 404, 5xx and an open
+        circuit surface before the caller starts writing the stream. Only that part is retried and guarded by the
+        circuit breaker; a failure in the middle of the body just ends the stream with an error.
+        A cached list is streamed as is, a streamed one is not cached and duplicates are not removed.
+     */
+    @Override
+    public Mono<Flux<OrdersDto>> streamAllOrders(String accountNumber) {
+        String uri = "/api/orders/fetchAll?accountNumber={accountNumber}";
+
+        return Mono.defer(() -> {
+            List<OrdersDto> cached = cachedAccountOrders(accountNumber);
+            if (cached != null) {
+                return Mono.just(Flux.fromIterable(cached));
+            }
+            return webClient.get()
+                    .uri(uri, accountNumber)
+                    .retrieve()
+                    .toEntityFlux(OrdersDto.class)
+                    .transform(response -> protect(ResilienceConfig.ORDERS_FETCH_ALL, response))
+                    .map(response -> response.getBody().limitRate(STREAM_BUFFER_SIZE));
+        });
+    }
+
+    @Override
+    public Mono<OrdersDto> fetchOrder(String orderId) {
+        String uri = "/api/orders/fetch?orderId={orderId}";
+
+        return Mono.defer(() -> {
+            OrdersDto cached = ordersCache().get(orderId, OrdersDto.class);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            // Concurrent misses for the same order share one call
+            return ordersSingleFlight.execute(orderId, () -> webClient.get()
+                    .uri(uri, orderId)
+                    .retrieve()
+                    .bodyToMono(OrdersDto.class)
+                    .transform(order -> protectHedged(ResilienceConfig.ORDERS_FETCH, order, ordersFetchHedging))
+                    .doOnNext(order -> ordersCache().put(orderId, order)));
+        });
+    }
+
+    @Override
+    public Mono<ResponseDto> updateOrderDetails(OrdersDto orderDto) {
+        String uri = "/api/orders/update";
+
+        return webClient.put()
+                .uri(uri)
+                .bodyValue(orderDto)
+                .retrieve()
+                .bodyToMono(ResponseDto.class)
+                .transform(response -> protect(ResilienceConfig.ORDERS_UPDATE, response))
+                // Also on failure or cancel, the update may have been applied even if its response was lost.
+                // doOnTerminate instead of doFinally, so that the caller does not see the result before the eviction
+                .doOnTerminate(() -> evictOrder(orderDto.getOrderId(), orderDto.getAccountNumber()))
+                .doOnCancel(() -> evictOrder(orderDto.getOrderId(), orderDto.getAccountNumber()));
+    }
+
+    @Override
+    public Mono<ResponseDto> deleteOrderDetails(String orderId) {
+        String uri = "/api/orders/delete?orderId={orderId}";
+
+        return webClient.delete()
+                .uri(uri, orderId)
+                .retrieve()
+                .bodyToMono(ResponseDto.class)  // Expecting a ResponseDto as response
+                .transform(response -> protect(ResilienceConfig.ORDERS_DELETE, response))
+                .doOnTerminate(() -> evictOrder(orderId, null))
+                .doOnCancel(() -> evictOrder(orderId, null));
+    }
+
+    // Fetch, update and delete are idempotent: each attempt goes through the operation's circuit breaker,
+    // retries are limited by the retry budget and stop as soon as the circuit opens
+    private <T> Mono<T> protect(String circuitBreakerName, Mono<T> call) {
+        return retried(guarded(circuitBreakerName, call));
+    }
+
+    // Reads may also be hedged, the first request and its hedge each pass the circuit breaker on their own
+    private <T> Mono<T> protectHedged(String circuitBreakerName, Mono<T> call, HedgedRequests hedging) {
+        return retried(hedging.hedge(guarded(circuitBreakerName, call)));
+    }
+
+    private <T> Mono<T> guarded(String circuitBreakerName, Mono<T> call) {
+        return call.transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(circuitBreakerName)));
+    }
+
+    private <T> Mono<T> retried(Mono<T> call) {
+        return call
+                .retryWhen(ordersRetry)
+                .doOnSubscribe(subscription -> ordersRetryBudget.recordRequest());
+    }
+
+    /*
+        Orders are cached by orderId and as whole lists by accountNumber. Reads fill both caches, a created order
+        is cached and drops its account's list, update and delete evict the order and the lists it is in.
+        The account of each listed order is also recorded in order-owners, whose entries live as long as the lists:
+        the orders cache is size evicted on its own and cannot tell a delete which list to drop.
+        A read that started before an update can still put the old value back, the caches' TTL bounds that.
+     */
+
+    private Cache ordersCache() {
+        return cacheManager.getCache(CacheConfig.ORDERS_CACHE);
+    }
+
+    private Cache accountOrdersCache() {
+        return cacheManager.getCache(CacheConfig.ACCOUNT_ORDERS_CACHE);
+    }
+
+    private Cache orderOwnersCache() {
+        return cacheManager.getCache(CacheConfig.ORDER_OWNERS_CACHE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OrdersDto> cachedAccountOrders(String accountNumber) {
+        Cache.ValueWrapper cached = accountOrdersCache().get(accountNumber);
+        return cached == null ? null : (List<OrdersDto>) cached.get();
+    }
+
+    private void cacheAccountOrders(String accountNumber, List<OrdersDto> orders) {
+        accountOrdersCache().put(accountNumber, List.copyOf(orders));
+        // Owners are written after the list, so they expire no earlier than it
+        for (OrdersDto order : orders) {
+            if (order.getOrderId() != null) {
+                ordersCache().put(order.getOrderId(), order);
+                orderOwnersCache().put(order.getOrderId(), accountNumber);
+            }
+        }
+    }
+
+    private void cacheCreatedOrder(OrdersDto orderDto) {
+        ordersCache().put(orderDto.getOrderId(), orderDto);
+        if (orderDto.getAccountNumber() != null) {
+            accountOrdersCache().evict(orderDto.getAccountNumber());
+        }
+    }
+
+    private void evictOrder(String orderId, String accountNumber) {
+        if (orderId != null) {
+            String owner = orderOwnersCache().get(orderId, String.class);
+            if (owner != null) {
+                accountOrdersCache().evict(owner);
+            }
+            ordersCache().evict(orderId);
+        }
+        if (accountNumber != null) {
+            accountOrdersCache().evict(accountNumber);
+        }
+    }
+
+    private static NotificationEvent orderPlacedEvent(String receiverEmail, OrdersDto orderDto) {
+        NotificationEvent event = new NotificationEvent();
+        event.setReceiverEmail(receiverEmail);
+        event.setMessage("Order status is updated to PLACED state");
+        event.setOrder(orderDto);
+        return event;
+    }
+}
@@ -0,0 +1,21 @@
+-- Converts accounts.account_number from varchar(100) to BINARY(16) (H2 syntax).
+-- Run once, with the application stopped, before starting it with the binary-account-number profile.
+
+-- Only canonical UUIDs can be converted. This check fails the migration if any other account number
+-- is present; list them with:
+--   SELECT account_number FROM accounts
+--   WHERE NOT REGEXP_LIKE(account_number, '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$', 'i');
+ALTER TABLE accounts ADD CONSTRAINT ck_accounts_account_number_uuid
+    CHECK (REGEXP_LIKE(account_number, '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$', 'i'));
+ALTER TABLE accounts DROP CONSTRAINT ck_accounts_account_number_uuid;
+
+ALTER TABLE accounts ADD COLUMN account_number_binary BINARY(16);
+UPDATE accounts SET account_number_binary = CAST(CAST(account_number AS UUID) AS BINARY(16));
+ALTER TABLE accounts ALTER COLUMN account_number_binary SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_accounts_created_at_account_number;
+ALTER TABLE accounts DROP PRIMARY KEY;
+ALTER TABLE accounts DROP COLUMN account_number;
+ALTER TABLE accounts ALTER COLUMN account_number_binary RENAME TO account_number;
+ALTER TABLE accounts ADD PRIMARY KEY (account_number);
+CREATE INDEX idx_accounts_created_at_account_number ON accounts (created_at, account_number);
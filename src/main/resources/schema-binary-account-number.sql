@@ -0,0 +1,12 @@
+-- Runs before schema.sql with the binary-account-number profile, the accounts table there is then skipped
+CREATE TABLE IF NOT EXISTS `accounts` (
+  `account_number` binary(16) PRIMARY KEY,
+  `name` varchar(100) NOT NULL,
+  `email` varchar(100) NOT NULL,
+  `mobile_number` varchar(20) NOT NULL,
+  `created_at` date NOT NULL,
+  `created_by` varchar(20) NOT NULL,
+  `updated_at` date DEFAULT NULL,
+  `updated_by` varchar(20) DEFAULT NULL,
+  `version` bigint NOT NULL DEFAULT 0
+);
@@ -17,9 +17,16 @@ CREATE TABLE IF NOT EXISTS `accounts` (
   `created_at` date NOT NULL,
   `created_by` varchar(20) NOT NULL,
   `updated_at` date DEFAULT NULL,
-  `updated_by` varchar(20) DEFAULT NULL
+  `updated_by` varchar(20) DEFAULT NULL,
+  `version` bigint NOT NULL DEFAULT 0
 );
 
+-- Every create, fetch, update and delete looks accounts up by email
+CREATE UNIQUE INDEX IF NOT EXISTS `uk_accounts_email` ON `accounts` (`email`);
+
+-- Keyset paging walks accounts in (created_at, account_number) order
+CREATE INDEX IF NOT EXISTS `idx_accounts_created_at_account_number` ON `accounts` (`created_at`, `account_number`);
+
 CREATE TABLE IF NOT EXISTS `orders` (
   `account_number` varchar(100) PRIMARY KEY,
   `order_id` varchar(100) NOT NULL,
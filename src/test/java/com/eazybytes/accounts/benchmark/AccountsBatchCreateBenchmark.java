@@ -0,0 +1,84 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.BatchItemResponseDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    Compares account creation throughput of POST /api/create (one account per request)
+    with POST /api/createBatch (one JSON array). Start it explicitly:
+    mvn test -Dtest=AccountsBatchCreateBenchmark -Dsurefire.failIfNoSpecifiedTests=false -Dbenchmark.accounts=20000
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "logging.level.root=WARN"})
+public class AccountsBatchCreateBenchmark {
+    private final Logger LOGGER = LoggerFactory.getLogger(AccountsBatchCreateBenchmark.class);
+
+    private final int accounts = Integer.getInteger("benchmark.accounts", 20_000);
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Test
+    void compareSingleAndBatchCreate() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Warm up both paths
+        createOneByOne("benchmark-warmup-single", 500, headers);
+        createInBatch("benchmark-warmup-batch", 500, headers);
+
+        long start = System.nanoTime();
+        createOneByOne("benchmark-single", accounts, headers);
+        double singleSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        createInBatch("benchmark-batch", accounts, headers);
+        double batchSeconds = (System.nanoTime() - start) / 1e9;
+
+        LOGGER.warn(String.format("POST /api/create      : %d accounts in %.2fs -> %.0f accounts/s",
+                accounts, singleSeconds, accounts / singleSeconds));
+        LOGGER.warn(String.format("POST /api/createBatch : %d accounts in %.2fs -> %.0f accounts/s",
+                accounts, batchSeconds, accounts / batchSeconds));
+    }
+
+    private void createOneByOne(String prefix, int count, HttpHeaders headers) {
+        for (int i = 0; i < count; i++) {
+            ResponseEntity<ResponseDto> response = testRestTemplate.exchange("/api/create", HttpMethod.POST,
+                    new HttpEntity<>(account(prefix, i), headers), ResponseDto.class);
+            Assertions.assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        }
+    }
+
+    private void createInBatch(String prefix, int count, HttpHeaders headers) {
+        List<AccountsDto> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(account(prefix, i));
+        }
+        ResponseEntity<List<BatchItemResponseDto>> response = testRestTemplate.exchange("/api/createBatch",
+                HttpMethod.POST, new HttpEntity<>(batch, headers),
+                new ParameterizedTypeReference<List<BatchItemResponseDto>>() {});
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertTrue(response.getBody().stream().allMatch(result -> "201".equals(result.getStatusCode())));
+    }
+
+    private static AccountsDto account(String prefix, int i) {
+        AccountsDto accountDto = new AccountsDto();
+        accountDto.setName("Benchmark User");
+        accountDto.setEmail(prefix + i + "@example.com");
+        accountDto.setMobileNumber("12345678");
+        return accountDto;
+    }
+}
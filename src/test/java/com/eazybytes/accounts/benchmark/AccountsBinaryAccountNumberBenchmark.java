@@ -0,0 +1,180 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.entities.AccountNumberBinaryType;
+import com.eazybytes.accounts.id.UuidV7Generator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+    Measures table and index size and primary key lookup latency of the accounts table before and after
+    db/migration/account-number-to-binary.sql moves account_number from varchar(100) to BINARY(16).
+    Uses a file backed H2 database under target/, compacted before every size measurement.
+    Not picked up by the default test run, start it explicitly:
+    mvn test -Dtest=AccountsBinaryAccountNumberBenchmark -Dsurefire.failIfNoSpecifiedTests=false -Dbenchmark.rows=1000000
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AccountsBinaryAccountNumberBenchmark {
+    private final Logger LOGGER = LoggerFactory.getLogger(AccountsBinaryAccountNumberBenchmark.class);
+
+    private static final String URL = "jdbc:h2:./target/benchmark/binary_account_number";
+
+    private static final int LOOKUPS = 20_000;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+    private String[] accountNumbers;
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("""
+                    CREATE TABLE accounts (
+                      account_number varchar(100) PRIMARY KEY,
+                      name varchar(100) NOT NULL,
+                      email varchar(100) NOT NULL,
+                      mobile_number varchar(20) NOT NULL,
+                      created_at timestamp NOT NULL,
+                      created_by varchar(20) NOT NULL,
+                      updated_at timestamp DEFAULT NULL,
+                      updated_by varchar(20) DEFAULT NULL,
+                      version bigint NOT NULL DEFAULT 0
+                    )""");
+            statement.execute("CREATE UNIQUE INDEX uk_accounts_email ON accounts (email)");
+            statement.execute("CREATE INDEX idx_accounts_created_at_account_number ON accounts (created_at, account_number)");
+        }
+
+        UuidV7Generator idGenerator = new UuidV7Generator();
+        accountNumbers = new String[rows];
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO accounts (account_number, name, email, mobile_number, created_at, created_by) " +
+                        "VALUES (?, 'Benchmark User', ?, '12345678', CURRENT_TIMESTAMP, 'BENCHMARK')")) {
+            for (int i = 0; i < rows; i++) {
+                accountNumbers[i] = idGenerator.nextId();
+                insert.setString(1, accountNumbers[i]);
+                insert.setString(2, "user" + i + "@example.com");
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        LOGGER.info("Seeded {} accounts", rows);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS DELETE FILES");
+        }
+        connection.close();
+    }
+
+    @Test
+    void compareVarcharAndBinaryAccountNumber() throws SQLException, IOException {
+        long varcharSize = compactedSize();
+        long[] varcharLookups = measureLookups(false);
+
+        migrate();
+
+        long binarySize = compactedSize();
+        long[] binaryLookups = measureLookups(true);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM accounts")) {
+            resultSet.next();
+            if (resultSet.getLong(1) != rows) {
+                throw new IllegalStateException("Migration lost rows");
+            }
+        }
+
+        report("varchar(100)", varcharSize, varcharLookups);
+        report("BINARY(16)", binarySize, binaryLookups);
+    }
+
+    private void migrate() throws SQLException, IOException {
+        String script;
+        try (InputStream inputStream = getClass().getResourceAsStream("/db/migration/account-number-to-binary.sql")) {
+            script = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+        LOGGER.info("Migrated {} accounts in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Compacts the database file, so the size reflects live table and index pages only
+    private long compactedSize() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN COMPACT");
+        }
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT DISK_SPACE_USED('ACCOUNTS')")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private long[] measureLookups(boolean binary) throws SQLException {
+        long[] latencies = new long[LOOKUPS];
+        try (PreparedStatement select = connection.prepareStatement("SELECT * FROM accounts WHERE account_number = ?")) {
+            for (int i = 0; i < LOOKUPS; i++) {
+                String accountNumber = accountNumbers[ThreadLocalRandom.current().nextInt(rows)];
+                if (binary) {
+                    select.setBytes(1, AccountNumberBinaryType.toBytes(accountNumber));
+                } else {
+                    select.setString(1, accountNumber);
+                }
+                long start = System.nanoTime();
+                try (ResultSet resultSet = select.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("Seeded account not found");
+                    }
+                }
+                latencies[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void report(String label, long size, long[] sortedLatencies) {
+        LOGGER.info(String.format("%-13s rows=%d size=%.1fMB p50=%.3fms p99=%.3fms",
+                label, rows, size / 1_048_576.0,
+                percentile(sortedLatencies, 0.50) / 1_000_000.0,
+                percentile(sortedLatencies, 0.99) / 1_000_000.0));
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.floor(percentile * sortedLatencies.length))];
+    }
+}
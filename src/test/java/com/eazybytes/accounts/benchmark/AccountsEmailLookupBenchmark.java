@@ -0,0 +1,127 @@
+package com.eazybytes.accounts.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+    Measures email lookup latency on a large accounts table, without and with the unique email index.
+    Not picked up by the default test run, start it explicitly:
+    mvn test -Dtest=AccountsEmailLookupBenchmark -Dsurefire.failIfNoSpecifiedTests=false -Dbenchmark.rows=1000000
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AccountsEmailLookupBenchmark {
+    private final Logger LOGGER = LoggerFactory.getLogger(AccountsEmailLookupBenchmark.class);
+
+    private final int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:email_lookup_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE accounts (
+                      account_number varchar(100) PRIMARY KEY,
+                      name varchar(100) NOT NULL,
+                      email varchar(100) NOT NULL,
+                      mobile_number varchar(20) NOT NULL,
+                      created_at timestamp NOT NULL,
+                      created_by varchar(20) NOT NULL,
+                      updated_at timestamp DEFAULT NULL,
+                      updated_by varchar(20) DEFAULT NULL
+                    )""");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO accounts (account_number, name, email, mobile_number, created_at, created_by) " +
+                        "VALUES (?, 'Benchmark User', ?, '12345678', CURRENT_TIMESTAMP, 'BENCHMARK')")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, UUID.randomUUID().toString());
+                insert.setString(2, email(i));
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        LOGGER.info("Seeded {} accounts", rows);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void compareLookupWithoutAndWithEmailIndex() throws SQLException {
+        // Before: entity style lookup, full table scan on email
+        long[] before = measure("SELECT * FROM accounts WHERE email = ?", 50);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE UNIQUE INDEX uk_accounts_email ON accounts (email)");
+        }
+
+        // After: the same entity lookup and a single column projection answered from the index
+        long[] afterEntity = measure("SELECT * FROM accounts WHERE email = ?", 20_000);
+        long[] afterProjection = measure("SELECT account_number FROM accounts WHERE email = ?", 20_000);
+
+        report("no index, entity", before);
+        report("email index, entity", afterEntity);
+        report("email index, projection", afterProjection);
+    }
+
+    private long[] measure(String sql, int lookups) throws SQLException {
+        long[] latencies = new long[lookups];
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            for (int i = 0; i < lookups; i++) {
+                select.setString(1, email(ThreadLocalRandom.current().nextInt(rows)));
+                long start = System.nanoTime();
+                try (ResultSet resultSet = select.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("Seeded account not found");
+                    }
+                }
+                latencies[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void report(String label, long[] sortedLatencies) {
+        LOGGER.info(String.format("%-26s rows=%d lookups=%d p50=%.3fms p99=%.3fms",
+                label, rows, sortedLatencies.length,
+                percentile(sortedLatencies, 0.50) / 1_000_000.0,
+                percentile(sortedLatencies, 0.99) / 1_000_000.0));
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.floor(percentile * sortedLatencies.length))];
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@example.com";
+    }
+}
@@ -0,0 +1,111 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.entities.Accounts;
+import com.eazybytes.accounts.mapper.AccountsMapper;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/*
+    Compares heap allocation and latency of a single account read through the entity path
+    (findByEmail, hydrate and track the entity, map to the DTO) and the projection path
+    (findViewByEmail in a read-only transaction, map the record to the DTO). The cache is bypassed.
+    Not picked up by the default test run, start it explicitly:
+    mvn test -Dtest=AccountsFetchAllocationBenchmark -Dsurefire.failIfNoSpecifiedTests=false -Dbenchmark.lookups=50000
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.root=WARN"})
+public class AccountsFetchAllocationBenchmark {
+    private final Logger LOGGER = LoggerFactory.getLogger(AccountsFetchAllocationBenchmark.class);
+
+    private static final int ACCOUNTS = 10_000;
+
+    private final int lookups = Integer.getInteger("benchmark.lookups", 50_000);
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareEntityAndProjectionReads() {
+        seed();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        IntFunction<AccountsDto> entityPath = i -> AccountsMapper.mapToAccountsDto(
+                accountsRepository.findByEmail(email(i)).orElseThrow(), new AccountsDto());
+        IntFunction<AccountsDto> projectionPath = i -> readOnly.execute(status -> AccountsMapper.mapToAccountsDto(
+                accountsRepository.findViewByEmail(email(i)).orElseThrow(), new AccountsDto()));
+
+        // Warm up both paths
+        measure(entityPath, lookups / 5);
+        measure(projectionPath, lookups / 5);
+
+        report("entity + mapper", measure(entityPath, lookups));
+        report("projection + mapper", measure(projectionPath, lookups));
+    }
+
+    private void seed() {
+        List<Accounts> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Accounts account = new Accounts();
+            account.setAccountNumber("benchmark-fetch-" + i);
+            account.setName("Benchmark User");
+            account.setEmail(email(i));
+            account.setMobileNumber("12345678");
+            accounts.add(account);
+        }
+        accountsRepository.persistAll(accounts);
+    }
+
+    private Result measure(IntFunction<AccountsDto> fetch, int count) {
+        long threadId = Thread.currentThread().getId();
+        long[] latencies = new long[count];
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            // Different email on every call, H2 would otherwise reuse the previous result
+            long start = System.nanoTime();
+            AccountsDto accountDto = fetch.apply(i % ACCOUNTS);
+            latencies[i] = System.nanoTime() - start;
+            Assertions.assertNotNull(accountDto.getAccountNumber());
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        Arrays.sort(latencies);
+        return new Result(allocated / count, latencies);
+    }
+
+    private void report(String label, Result result) {
+        LOGGER.warn(String.format("%-20s lookups=%d alloc=%d B/op p50=%.3fms p99=%.3fms",
+                label, result.latencies().length, result.bytesPerOp(),
+                percentile(result.latencies(), 0.50) / 1_000_000.0,
+                percentile(result.latencies(), 0.99) / 1_000_000.0));
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.floor(percentile * sortedLatencies.length))];
+    }
+
+    private static String email(int i) {
+        return "benchmark-fetch-" + i + "@example.com";
+    }
+
+    private record Result(long bytesPerOp, long[] latencies) {
+    }
+}
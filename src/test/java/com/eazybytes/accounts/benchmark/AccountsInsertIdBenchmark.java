@@ -0,0 +1,90 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.id.IdGenerator;
+import com.eazybytes.accounts.id.RandomUuidGenerator;
+import com.eazybytes.accounts.id.UuidV7Generator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/*
+    Compares insert throughput into the accounts table with random UUID and time ordered UUIDv7 primary keys.
+    Uses a file backed H2 database under target/ so index page writes are part of the cost.
+    Not picked up by the default test run, start it explicitly:
+    mvn test -Dtest=AccountsInsertIdBenchmark -Dsurefire.failIfNoSpecifiedTests=false -Dbenchmark.rows=1000000
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AccountsInsertIdBenchmark {
+    private final Logger LOGGER = LoggerFactory.getLogger(AccountsInsertIdBenchmark.class);
+
+    private final int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:./target/benchmark/insert_ids", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS DELETE FILES");
+        }
+        connection.close();
+    }
+
+    @Test
+    void compareRandomAndTimeOrderedPrimaryKeys() throws SQLException {
+        double random = insert("accounts_random", new RandomUuidGenerator());
+        double timeOrdered = insert("accounts_uuid_v7", new UuidV7Generator());
+
+        LOGGER.info(String.format("random UUID keys: %.0f rows/s", random));
+        LOGGER.info(String.format("UUIDv7 keys:      %.0f rows/s", timeOrdered));
+    }
+
+    private double insert(String table, IdGenerator idGenerator) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (" +
+                    "account_number varchar(100) PRIMARY KEY, " +
+                    "name varchar(100) NOT NULL, " +
+                    "email varchar(100) NOT NULL, " +
+                    "mobile_number varchar(20) NOT NULL, " +
+                    "created_at timestamp NOT NULL, " +
+                    "created_by varchar(20) NOT NULL)");
+        }
+
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (account_number, name, email, mobile_number, created_at, created_by) " +
+                        "VALUES (?, 'Benchmark User', ?, '12345678', CURRENT_TIMESTAMP, 'BENCHMARK')")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, idGenerator.nextId());
+                insert.setString(2, "user" + i + "@example.com");
+                insert.addBatch();
+                if (i % 500 == 499) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        long elapsed = System.nanoTime() - start;
+        connection.setAutoCommit(true);
+        return rows / (elapsed / 1_000_000_000.0);
+    }
+}
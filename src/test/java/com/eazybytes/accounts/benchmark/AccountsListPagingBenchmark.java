@@ -0,0 +1,169 @@
+package com.eazybytes.accounts.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/*
+    Measures page latency at increasing depth for OFFSET paging and for keyset paging on (created_at, account_number).
+    Not picked up by the default test run, start it explicitly:
+    mvn test -Dtest=AccountsListPagingBenchmark -Dsurefire.failIfNoSpecifiedTests=false -Dbenchmark.rows=1000000
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AccountsListPagingBenchmark {
+    private final Logger LOGGER = LoggerFactory.getLogger(AccountsListPagingBenchmark.class);
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int SAMPLES = 50;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:list_paging_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE accounts (
+                      account_number varchar(100) PRIMARY KEY,
+                      name varchar(100) NOT NULL,
+                      email varchar(100) NOT NULL,
+                      mobile_number varchar(20) NOT NULL,
+                      created_at timestamp NOT NULL,
+                      created_by varchar(20) NOT NULL,
+                      updated_at timestamp DEFAULT NULL,
+                      updated_by varchar(20) DEFAULT NULL
+                    )""");
+            statement.execute("CREATE INDEX idx_accounts_created_at_account_number ON accounts (created_at, account_number)");
+        }
+
+        // A few hundred accounts share each creation timestamp, so the account number tie breaker is exercised
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO accounts (account_number, name, email, mobile_number, created_at, created_by) " +
+                        "VALUES (?, 'Benchmark User', ?, '12345678', ?, 'BENCHMARK')")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, UUID.randomUUID().toString());
+                insert.setString(2, "user" + i + "@example.com");
+                insert.setTimestamp(3, Timestamp.valueOf(start.plusSeconds(i / 300)));
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        LOGGER.info("Seeded {} accounts", rows);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void compareOffsetAndKeysetPagingByDepth() throws SQLException {
+        for (int depth : new int[]{0, rows / 10, rows / 2, rows - PAGE_SIZE - SAMPLES}) {
+            long[] offset = measureOffset(depth);
+            long[] keyset = measureKeyset(depth);
+            report("offset", depth, offset);
+            report("keyset", depth, keyset);
+        }
+    }
+
+    private long[] measureOffset(int depth) throws SQLException {
+        long[] latencies = new long[SAMPLES];
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT * FROM accounts ORDER BY created_at, account_number LIMIT ? OFFSET ?")) {
+            select.setInt(1, PAGE_SIZE);
+            for (int i = 0; i < SAMPLES; i++) {
+                // A different offset per sample, H2 would otherwise reuse the previous result
+                select.setInt(2, depth + i);
+                long start = System.nanoTime();
+                readPage(select);
+                latencies[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private long[] measureKeyset(int depth) throws SQLException {
+        // The cursors a client would hold after reading the rows before this depth, one per sample
+        Timestamp[] createdAts = new Timestamp[SAMPLES];
+        String[] accountNumbers = new String[SAMPLES];
+        try (PreparedStatement cursor = connection.prepareStatement(
+                "SELECT created_at, account_number FROM accounts ORDER BY created_at, account_number LIMIT ? OFFSET ?")) {
+            cursor.setInt(1, SAMPLES);
+            cursor.setInt(2, depth);
+            try (ResultSet resultSet = cursor.executeQuery()) {
+                for (int i = 0; i < SAMPLES && resultSet.next(); i++) {
+                    createdAts[i] = resultSet.getTimestamp(1);
+                    accountNumbers[i] = resultSet.getString(2);
+                }
+            }
+        }
+
+        long[] latencies = new long[SAMPLES];
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT * FROM accounts WHERE created_at >= ? AND (created_at > ? OR account_number > ?) " +
+                        "ORDER BY created_at, account_number LIMIT ?")) {
+            select.setInt(4, PAGE_SIZE);
+            for (int i = 0; i < SAMPLES; i++) {
+                select.setTimestamp(1, createdAts[i]);
+                select.setTimestamp(2, createdAts[i]);
+                select.setString(3, accountNumbers[i]);
+                long start = System.nanoTime();
+                readPage(select);
+                latencies[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void readPage(PreparedStatement select) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalStateException("Empty page");
+        }
+    }
+
+    private void report(String label, int depth, long[] sortedLatencies) {
+        LOGGER.info(String.format("%-7s rows=%d depth=%d p50=%.3fms p99=%.3fms",
+                label, rows, depth,
+                percentile(sortedLatencies, 0.50) / 1_000_000.0,
+                percentile(sortedLatencies, 0.99) / 1_000_000.0));
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.floor(percentile * sortedLatencies.length))];
+    }
+}
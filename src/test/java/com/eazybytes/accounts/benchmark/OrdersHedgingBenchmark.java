@@ -0,0 +1,120 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.resilience.HedgedRequests;
+import com.eazybytes.accounts.resilience.RequestBudget;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/*
+    Compares order fetch latency without and with hedging against a WireMock orders service with a long tail
+    (log normal delay, median 20ms). Hedges use the default settings: p95 delay and a 5% budget.
+    Not picked up by the default test run, start it explicitly:
+    mvn test -Dtest=OrdersHedgingBenchmark -Dsurefire.failIfNoSpecifiedTests=false -Dbenchmark.requests=5000
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class OrdersHedgingBenchmark {
+    private final Logger LOGGER = LoggerFactory.getLogger(OrdersHedgingBenchmark.class);
+
+    private final int requests = Integer.getInteger("benchmark.requests", 5_000);
+    private final int concurrency = Integer.getInteger("benchmark.concurrency", 20);
+    private final double sigma = Double.parseDouble(System.getProperty("benchmark.sigma", "1.0"));
+
+    private WireMockServer ordersService;
+
+    private WebClient webClient;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @BeforeAll
+    void setUp() {
+        ordersService = new WireMockServer(WireMockConfiguration.options()
+                .dynamicPort()
+                .containerThreads(concurrency * 2 + 50)
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(50)
+                .disableRequestJournal());
+        ordersService.start();
+        ordersService.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .willReturn(okJson("{\"orderId\":\"order-1\",\"name\":\"Keyboard\"}")
+                        .withLogNormalRandomDelay(20, sigma)));
+        webClient = WebClient.builder().baseUrl(ordersService.baseUrl()).build();
+    }
+
+    @AfterAll
+    void tearDown() {
+        ordersService.stop();
+    }
+
+    @Test
+    void compareWithoutAndWithHedging() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RequestBudget budget = new RequestBudget(meterRegistry, "benchmark", 0.05, 1, 20);
+        HedgedRequests withoutHedging = new HedgedRequests(meterRegistry, "off", false, 0.95,
+                Duration.ofMillis(100), Duration.ofMillis(10), budget);
+        HedgedRequests withHedging = new HedgedRequests(meterRegistry, "on", true, 0.95,
+                Duration.ofMillis(100), Duration.ofMillis(10), budget);
+
+        // Warm up and let the hedged variant learn its p95 delay
+        measure(withoutHedging, Math.min(requests, 1_000));
+        measure(withHedging, Math.min(requests, 1_000));
+
+        report("no hedging", measure(withoutHedging, requests));
+        long sentBefore = (long) meterRegistry.get("accounts.hedging.requests").tags("name", "on", "result", "sent").counter().count();
+        report("hedging p95", measure(withHedging, requests));
+        long sent = (long) meterRegistry.get("accounts.hedging.requests").tags("name", "on", "result", "sent").counter().count() - sentBefore;
+        LOGGER.info(String.format("hedges sent=%d (%.1f%% extra requests)", sent, 100.0 * sent / requests));
+    }
+
+    private long[] measure(HedgedRequests hedging, int count) {
+        long[] latencies = new long[count];
+        failures.set(0);
+        Flux.range(0, count)
+                .flatMap(i -> {
+                    long start = System.nanoTime();
+                    Mono<String> call = webClient.get()
+                            .uri("/api/orders/fetch?orderId={orderId}", "order-1")
+                            .retrieve()
+                            .bodyToMono(String.class);
+                    return hedging.hedge(call)
+                            .doOnSuccess(body -> latencies[i] = System.nanoTime() - start)
+                            .onErrorResume(e -> {
+                                latencies[i] = System.nanoTime() - start;
+                                failures.incrementAndGet();
+                                return Mono.empty();
+                            });
+                }, concurrency)
+                .blockLast();
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void report(String label, long[] sortedLatencies) {
+        LOGGER.info(String.format("%-12s requests=%d failures=%d sigma=%.1f p50=%.1fms p95=%.1fms p99=%.1fms p99.9=%.1fms",
+                label, sortedLatencies.length, failures.get(), sigma,
+                percentile(sortedLatencies, 0.50) / 1_000_000.0,
+                percentile(sortedLatencies, 0.95) / 1_000_000.0,
+                percentile(sortedLatencies, 0.99) / 1_000_000.0,
+                percentile(sortedLatencies, 0.999) / 1_000_000.0));
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.floor(percentile * sortedLatencies.length))];
+    }
+}
@@ -0,0 +1,147 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.netty.channel.ChannelOption;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/*
+    Compares the bare WebClient the service used to build with the pooled orders client from RESTConfiguration,
+    over HTTP/1.1 and h2c, against a WireMock orders service with a fixed latency.
+    Not picked up by the default test run, start it explicitly:
+    mvn test -Dtest=OrdersWebClientBenchmark -Dsurefire.failIfNoSpecifiedTests=false -Dbenchmark.concurrency=200
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class OrdersWebClientBenchmark {
+    private final Logger LOGGER = LoggerFactory.getLogger(OrdersWebClientBenchmark.class);
+
+    private final int concurrency = Integer.getInteger("benchmark.concurrency", 200);
+    private final int requests = Integer.getInteger("benchmark.requests", 5_000);
+    private final int delayMs = Integer.getInteger("benchmark.delay-ms", 50);
+
+    private WireMockServer ordersService;
+
+    @BeforeAll
+    void setUp() {
+        ordersService = new WireMockServer(WireMockConfiguration.options()
+                .dynamicPort()
+                .containerThreads(concurrency + 50)
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(50)
+                .disableRequestJournal());
+        ordersService.start();
+        ordersService.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .willReturn(okJson("{\"orderId\":\"order-1\",\"name\":\"Keyboard\",\"qty\":2,\"price\":49.99}")
+                        .withFixedDelay(delayMs)));
+    }
+
+    @AfterAll
+    void tearDown() {
+        ordersService.stop();
+    }
+
+    @Test
+    void compareDefaultAndPooledOrdersClient() {
+        ConnectionProvider http11Pool = ordersConnectionProvider("orders-http11");
+        ConnectionProvider h2cPool = ordersConnectionProvider("orders-h2c");
+        try {
+            // Before: WebClient.builder().build() on the shared default Reactor Netty pool
+            WebClient defaultClient = WebClient.builder().baseUrl(ordersService.baseUrl()).build();
+            WebClient pooledClient = ordersClient(http11Pool, HttpProtocol.HTTP11);
+            WebClient h2cClient = ordersClient(h2cPool, HttpProtocol.H2C, HttpProtocol.HTTP11);
+
+            // Warm up connections and JIT for all three before measuring
+            for (WebClient client : List.of(defaultClient, pooledClient, h2cClient)) {
+                measure(client, Math.min(requests, 1_000));
+            }
+
+            report("default client", measure(defaultClient, requests));
+            report("pooled, HTTP/1.1", measure(pooledClient, requests));
+            report("pooled, h2c", measure(h2cClient, requests));
+        }
+        finally {
+            http11Pool.dispose();
+            h2cPool.dispose();
+        }
+    }
+
+    // Same pool settings as the orders defaults in application.yml
+    private static ConnectionProvider ordersConnectionProvider(String name) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(500)
+                .pendingAcquireMaxCount(1_000)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .build();
+    }
+
+    private WebClient ordersClient(ConnectionProvider connectionProvider, HttpProtocol... protocols) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 2_000)
+                .responseTimeout(Duration.ofSeconds(10))
+                .keepAlive(true)
+                .protocol(protocols);
+        return WebClient.builder()
+                .baseUrl(ordersService.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private Result measure(WebClient client, int count) {
+        long[] latencies = new long[count];
+        long start = System.nanoTime();
+        Long failures = Flux.range(0, count)
+                .flatMap(i -> {
+                    long requestStart = System.nanoTime();
+                    return client.get()
+                            .uri("/api/orders/fetch?orderId={orderId}", "order-1")
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .doOnSuccess(body -> latencies[i] = System.nanoTime() - requestStart)
+                            .then(Mono.just(0L))
+                            .onErrorResume(e -> {
+                                latencies[i] = System.nanoTime() - requestStart;
+                                return Mono.just(1L);
+                            });
+                }, concurrency)
+                .reduce(0L, Long::sum)
+                .block();
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(latencies, elapsed, failures == null ? 0 : failures);
+    }
+
+    private void report(String label, Result result) {
+        LOGGER.info(String.format("%-18s concurrency=%d requests=%d failures=%d throughput=%.0f req/s p50=%.1fms p99=%.1fms",
+                label, concurrency, result.latencies().length, result.failures(),
+                result.latencies().length / (result.elapsedNanos() / 1_000_000_000.0),
+                percentile(result.latencies(), 0.50) / 1_000_000.0,
+                percentile(result.latencies(), 0.99) / 1_000_000.0));
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.floor(percentile * sortedLatencies.length))];
+    }
+
+    private record Result(long[] latencies, long elapsedNanos, long failures) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.eazybytes.accounts.benchmark.jmh;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.entities.Accounts;
+import com.eazybytes.accounts.mapper.AccountsMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+    Entity <-> DTO mapping with the hand written AccountsMapper and with ModelMapper as a comparison.
+    mvn -Pbenchmark test-compile exec:exec -Djmh.args="AccountsMapperBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountsMapperBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private Accounts accounts;
+
+    private AccountsDto accountsDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+        accounts = new Accounts();
+        accounts.setAccountNumber("0190a5d2-7c4e-7b3a-9f1e-3c2d4b5a6e7f");
+        accounts.setName("Rolands Bidzans");
+        accounts.setEmail("rolands@example.com");
+        accounts.setMobileNumber("12345678");
+        accounts.setVersion(3);
+
+        accountsDto = AccountsMapper.mapToAccountsDto(accounts, new AccountsDto());
+    }
+
+    @Benchmark
+    public AccountsDto mapperToDto() {
+        return AccountsMapper.mapToAccountsDto(accounts, new AccountsDto());
+    }
+
+    @Benchmark
+    public Accounts mapperToEntity() {
+        return AccountsMapper.mapToAccounts(accountsDto, new Accounts());
+    }
+
+    @Benchmark
+    public AccountsDto modelMapperToDto() {
+        return modelMapper.map(accounts, AccountsDto.class);
+    }
+
+    @Benchmark
+    public Accounts modelMapperToEntity() {
+        return modelMapper.map(accountsDto, Accounts.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.eazybytes.accounts.benchmark.jmh;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Bean Validation of AccountsDto, as done for every created account, for a valid and an invalid DTO.
+    The invalid case also pays for message interpolation of three violations.
+    mvn -Pbenchmark test-compile exec:exec -Djmh.args="AccountsValidationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountsValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private AccountsDto validAccount;
+
+    private AccountsDto invalidAccount;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validAccount = new AccountsDto();
+        validAccount.setName("Rolands Bidzans");
+        validAccount.setEmail("rolands@example.com");
+        validAccount.setMobileNumber("12345678");
+
+        invalidAccount = new AccountsDto();
+        invalidAccount.setName("Rb");
+        invalidAccount.setEmail("not-an-email");
+        invalidAccount.setMobileNumber("123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AccountsDto>> validAccount() {
+        return validator.validate(validAccount);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AccountsDto>> invalidAccount() {
+        return validator.validate(invalidAccount);
+    }
+}
@@ -0,0 +1,55 @@
+package com.eazybytes.accounts.benchmark.jmh;
+
+import com.eazybytes.accounts.id.RandomUuidGenerator;
+import com.eazybytes.accounts.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+    Throughput of the ID generators, single threaded and with 8 threads sharing one generator.
+    mvn -Pbenchmark test-compile exec:exec -Djmh.args="IdGeneratorBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final RandomUuidGenerator randomUuidGenerator = new RandomUuidGenerator();
+
+    private final UuidV7Generator uuidV7Generator = new UuidV7Generator();
+
+    @Benchmark
+    public String randomUuid() {
+        return randomUuidGenerator.nextId();
+    }
+
+    @Benchmark
+    public String uuidV7() {
+        return uuidV7Generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomUuidContended() {
+        return randomUuidGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidV7Contended() {
+        return uuidV7Generator.nextId();
+    }
+}
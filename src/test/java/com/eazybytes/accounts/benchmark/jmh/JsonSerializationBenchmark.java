@@ -0,0 +1,92 @@
+package com.eazybytes.accounts.benchmark.jmh;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Jackson serialization of the API payloads with an ObjectMapper configured like the one Spring Boot builds.
+    mvn -Pbenchmark test-compile exec:exec -Djmh.args="JsonSerializationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter accountsWriter;
+
+    private ObjectWriter ordersWriter;
+
+    private ObjectWriter responseWriter;
+
+    private ObjectReader accountsReader;
+
+    private AccountsDto accountsDto;
+
+    private OrdersDto ordersDto;
+
+    private ResponseDto responseDto;
+
+    private byte[] accountsJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        accountsWriter = objectMapper.writerFor(AccountsDto.class);
+        ordersWriter = objectMapper.writerFor(OrdersDto.class);
+        responseWriter = objectMapper.writerFor(ResponseDto.class);
+        accountsReader = objectMapper.readerFor(AccountsDto.class);
+
+        accountsDto = new AccountsDto();
+        accountsDto.setAccountNumber("0190a5d2-7c4e-7b3a-9f1e-3c2d4b5a6e7f");
+        accountsDto.setName("Rolands Bidzans");
+        accountsDto.setEmail("rolands@example.com");
+        accountsDto.setMobileNumber("12345678");
+
+        ordersDto = new OrdersDto("0190a5d2-8d1f-7c2b-a4e3-5f6a7b8c9d0e", "Keyboard", 2, 49.99,
+                "pending", accountsDto.getAccountNumber());
+        responseDto = new ResponseDto("201", "Account created successfully");
+
+        accountsJson = accountsWriter.writeValueAsBytes(accountsDto);
+    }
+
+    @Benchmark
+    public byte[] writeAccounts() throws IOException {
+        return accountsWriter.writeValueAsBytes(accountsDto);
+    }
+
+    @Benchmark
+    public byte[] writeOrders() throws IOException {
+        return ordersWriter.writeValueAsBytes(ordersDto);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(responseDto);
+    }
+
+    @Benchmark
+    public AccountsDto readAccounts() throws IOException {
+        return accountsReader.readValue(accountsJson);
+    }
+}
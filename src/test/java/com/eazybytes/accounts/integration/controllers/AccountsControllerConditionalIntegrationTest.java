@@ -0,0 +1,114 @@
+package com.eazybytes.accounts.integration.controllers;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.eazybytes.accounts.entities.Accounts;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.util.UUID;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AccountsControllerConditionalIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: a fresh account per test so cached and stored versions start at 0
+        email = "etag-" + UUID.randomUUID() + "@example.com";
+        Accounts account = new Accounts();
+        account.setAccountNumber(UUID.randomUUID().toString());
+        account.setName("Etag User");
+        account.setEmail(email);
+        account.setMobileNumber("12345678");
+        accountsRepository.save(account);
+    }
+
+    @Test
+    @DisplayName("Fetch with matching If-None-Match returns 304 without body")
+    public void testFetchAccount_whenETagMatches_returnsNotModified() {
+        // Act
+        ResponseEntity<AccountsDto> first = testRestTemplate.getForEntity("/api/fetch?email=" + email, AccountsDto.class);
+        String eTag = first.getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<String> second = testRestTemplate.exchange("/api/fetch?email=" + email,
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, first.getStatusCode());
+        Assertions.assertNotNull(eTag);
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        Assertions.assertNull(second.getBody());
+    }
+
+    @Test
+    @DisplayName("Update with If-Match applies once, the stale ETag is then rejected with 412")
+    public void testUpdateAccount_whenIfMatchStale_returnsPreconditionFailed() {
+        // Arrange
+        String eTag = testRestTemplate.getForEntity("/api/fetch?email=" + email, AccountsDto.class)
+                .getHeaders().getETag();
+
+        AccountsDto accountDto = new AccountsDto();
+        accountDto.setName("Etag User Updated");
+        accountDto.setEmail(email);
+        accountDto.setMobileNumber("87654321");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch(eTag);
+
+        // Act
+        ResponseEntity<ResponseDto> updated = testRestTemplate.exchange("/api/update",
+                HttpMethod.PUT, new HttpEntity<>(accountDto, headers), ResponseDto.class);
+        ResponseEntity<String> stale = testRestTemplate.exchange("/api/update",
+                HttpMethod.PUT, new HttpEntity<>(accountDto, headers), String.class);
+        ResponseEntity<AccountsDto> fetched = testRestTemplate.getForEntity("/api/fetch?email=" + email, AccountsDto.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, updated.getStatusCode());
+        Assertions.assertEquals(HttpStatus.PRECONDITION_FAILED, stale.getStatusCode());
+        Assertions.assertTrue(stale.getBody().contains("Account was modified since it was fetched"));
+        Assertions.assertEquals("Etag User Updated", fetched.getBody().getName());
+        Assertions.assertNotEquals(eTag, fetched.getHeaders().getETag());
+        Assertions.assertEquals(updated.getHeaders().getETag(), fetched.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Update with an If-Match ETag whose account number is not a UUID is rejected with 412")
+    public void testUpdateAccount_whenIfMatchAccountNumberNotUuid_returnsPreconditionFailed() {
+        // Arrange
+        AccountsDto accountDto = new AccountsDto();
+        accountDto.setName("Etag User Updated");
+        accountDto.setEmail(email);
+        accountDto.setMobileNumber("87654321");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"not-a-uuid-0\"");
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.exchange("/api/update",
+                HttpMethod.PUT, new HttpEntity<>(accountDto, headers), String.class);
+        ResponseEntity<AccountsDto> fetched = testRestTemplate.getForEntity("/api/fetch?email=" + email, AccountsDto.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        Assertions.assertEquals("Etag User", fetched.getBody().getName());
+    }
+}
@@ -0,0 +1,156 @@
+package com.eazybytes.accounts.integration.controllers;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.BatchItemResponseDto;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AccountsControllerCreateBatchIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Test
+    @DisplayName("Create accounts in batch: per item results in request order")
+    public void testCreateAccounts_whenMixedItemsProvided_returnsPerItemResults() {
+        // Arrange: two valid accounts, a repeated email and an invalid mobile number
+        String body = """
+                [
+                  {"name": "Batch User One", "email": "batch1@example.com", "mobileNumber": "12345678"},
+                  {"name": "Batch User Two", "email": "batch2@example.com", "mobileNumber": "12345678"},
+                  {"name": "Batch User Three", "email": "batch1@example.com", "mobileNumber": "12345678"},
+                  {"name": "Batch User Four", "email": "batch4@example.com", "mobileNumber": "12"}
+                ]
+                """;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> requestEntity = new HttpEntity<>(body, headers);
+
+        // Act
+        ResponseEntity<List<BatchItemResponseDto>> response = testRestTemplate.exchange(
+                "/api/createBatch",
+                HttpMethod.POST,
+                requestEntity,
+                new ParameterizedTypeReference<List<BatchItemResponseDto>>() {});
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<BatchItemResponseDto> results = response.getBody();
+        Assertions.assertNotNull(results);
+        Assertions.assertEquals(4, results.size());
+
+        Assertions.assertEquals("201", results.get(0).getStatusCode());
+        Assertions.assertNotNull(results.get(0).getAccountNumber());
+        Assertions.assertEquals("201", results.get(1).getStatusCode());
+        Assertions.assertEquals("400", results.get(2).getStatusCode());
+        Assertions.assertEquals("Account already registered with given Email batch1@example.com", results.get(2).getStatusMsg());
+        Assertions.assertEquals("400", results.get(3).getStatusCode());
+        Assertions.assertEquals("Mobile number must be 8 digits", results.get(3).getStatusMsg());
+        for (int i = 0; i < results.size(); i++) {
+            Assertions.assertEquals(i, results.get(i).getIndex());
+        }
+
+        Assertions.assertEquals(results.get(0).getAccountNumber(),
+                accountsRepository.findViewByEmail("batch1@example.com").orElseThrow().accountNumber());
+        Assertions.assertTrue(accountsRepository.existsByEmail("batch2@example.com"));
+        Assertions.assertFalse(accountsRepository.existsByEmail("batch4@example.com"));
+    }
+
+    @Test
+    @DisplayName("Create accounts in batch: body that is not an array is rejected")
+    public void testCreateAccounts_whenBodyIsNotArray_returns400() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> requestEntity = new HttpEntity<>(
+                "{\"name\": \"Batch User\", \"email\": \"batch5@example.com\", \"mobileNumber\": \"12345678\"}", headers);
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/api/createBatch",
+                HttpMethod.POST,
+                requestEntity,
+                String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        Assertions.assertTrue(response.getBody().contains("Request body must be a JSON array of accounts"));
+    }
+
+    @Test
+    @DisplayName("Create accounts in batch: body cut off after the first chunk reports the committed items")
+    public void testCreateAccounts_whenBodyTruncatedAfterFirstChunk_returnsCommittedResults() {
+        // Arrange: one full chunk, then an element that is never finished
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < AccountsConstants.BATCH_CHUNK_SIZE; i++) {
+            body.append("{\"name\": \"Partial User\", \"email\": \"partial").append(i)
+                    .append("@example.com\", \"mobileNumber\": \"12345678\"},");
+        }
+        body.append("{\"name\": \"Partial Us");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> requestEntity = new HttpEntity<>(body.toString(), headers);
+
+        // Act
+        ResponseEntity<List<BatchItemResponseDto>> response = testRestTemplate.exchange(
+                "/api/createBatch",
+                HttpMethod.POST,
+                requestEntity,
+                new ParameterizedTypeReference<List<BatchItemResponseDto>>() {});
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<BatchItemResponseDto> results = response.getBody();
+        Assertions.assertNotNull(results);
+        Assertions.assertEquals(AccountsConstants.BATCH_CHUNK_SIZE + 1, results.size());
+        for (int i = 0; i < AccountsConstants.BATCH_CHUNK_SIZE; i++) {
+            Assertions.assertEquals("201", results.get(i).getStatusCode());
+        }
+        BatchItemResponseDto aborted = results.get(AccountsConstants.BATCH_CHUNK_SIZE);
+        Assertions.assertEquals(AccountsConstants.BATCH_CHUNK_SIZE, aborted.getIndex());
+        Assertions.assertEquals("400", aborted.getStatusCode());
+        Assertions.assertTrue(aborted.getStatusMsg().startsWith(AccountsConstants.MESSAGE_400_BATCH_ABORTED
+                + "Malformed JSON at item " + AccountsConstants.BATCH_CHUNK_SIZE));
+
+        Assertions.assertTrue(accountsRepository.existsByEmail("partial0@example.com"));
+        Assertions.assertTrue(accountsRepository.existsByEmail("partial499@example.com"));
+    }
+
+    @Test
+    @DisplayName("Create accounts in batch: body cut off within the first chunk creates nothing")
+    public void testCreateAccounts_whenBodyTruncatedInFirstChunk_returns400() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> requestEntity = new HttpEntity<>(
+                "[{\"name\": \"Batch User\", \"email\": \"batch6@example.com\", \"mobileNumber\": \"12345678\"}, {\"name\"",
+                headers);
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/api/createBatch",
+                HttpMethod.POST,
+                requestEntity,
+                String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        Assertions.assertTrue(response.getBody().contains("Malformed JSON at item 1"));
+        Assertions.assertFalse(accountsRepository.existsByEmail("batch6@example.com"));
+    }
+}
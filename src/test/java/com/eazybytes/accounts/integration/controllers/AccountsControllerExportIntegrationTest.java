@@ -0,0 +1,66 @@
+package com.eazybytes.accounts.integration.controllers;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.entities.Accounts;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AccountsControllerExportIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Test
+    @DisplayName("Export accounts as newline delimited JSON")
+    public void testExportAccounts_whenAccountsStored_returnsOneJsonLinePerAccount() throws Exception {
+        // Arrange
+        List<String> emails = List.of("export1@example.com", "export2@example.com", "export3@example.com");
+        for (String email : emails) {
+            Accounts account = new Accounts();
+            account.setAccountNumber(UUID.randomUUID().toString());
+            account.setName("Export User");
+            account.setEmail(email);
+            account.setMobileNumber("12345678");
+            accountsRepository.save(account);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/api/export",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+        Assertions.assertTrue(response.getBody().endsWith("\n"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> exportedEmails = new ArrayList<>();
+        for (String line : response.getBody().split("\n")) {
+            AccountsDto accountDto = objectMapper.readValue(line, AccountsDto.class);
+            exportedEmails.add(accountDto.getEmail());
+        }
+        Assertions.assertEquals(accountsRepository.count(), exportedEmails.size());
+        Assertions.assertTrue(exportedEmails.containsAll(emails));
+    }
+}
@@ -0,0 +1,93 @@
+package com.eazybytes.accounts.integration.controllers;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.AccountsBatchFetchDto;
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.entities.Accounts;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AccountsControllerFetchBatchIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Test
+    @DisplayName("Fetch accounts in batch: known emails under found, unknown under missing, in request order")
+    public void testFetchAccounts_whenSomeEmailsUnknown_returnsFoundAndMissing() {
+        // Arrange
+        List<String> storedEmails = List.of("fetchbatch1@example.com", "fetchbatch2@example.com");
+        for (String email : storedEmails) {
+            Accounts account = new Accounts();
+            account.setAccountNumber(UUID.randomUUID().toString());
+            account.setName("Fetch Batch User");
+            account.setEmail(email);
+            account.setMobileNumber("12345678");
+            accountsRepository.save(account);
+        }
+        String body = """
+                ["fetchbatch2@example.com", "unknown1@example.com", "fetchbatch1@example.com",
+                 "unknown2@example.com", "fetchbatch2@example.com"]
+                """;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> requestEntity = new HttpEntity<>(body, headers);
+
+        // Act
+        ResponseEntity<AccountsBatchFetchDto> response = testRestTemplate.exchange(
+                "/api/fetchBatch",
+                HttpMethod.POST,
+                requestEntity,
+                AccountsBatchFetchDto.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        AccountsBatchFetchDto result = response.getBody();
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(List.of("fetchbatch2@example.com", "fetchbatch1@example.com"),
+                result.getFound().stream().map(AccountsDto::getEmail).toList());
+        Assertions.assertEquals("Fetch Batch User", result.getFound().get(0).getName());
+        Assertions.assertNotNull(result.getFound().get(0).getAccountNumber());
+        Assertions.assertEquals(List.of("unknown1@example.com", "unknown2@example.com"), result.getMissing());
+    }
+
+    @Test
+    @DisplayName("Fetch accounts in batch: more emails than allowed returns 400")
+    public void testFetchAccounts_whenTooManyEmails_returnsBadRequest() {
+        // Arrange
+        List<String> emails = IntStream.rangeClosed(0, AccountsConstants.FETCH_BATCH_MAX_EMAILS)
+                .mapToObj(i -> "toomany" + i + "@example.com")
+                .toList();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<List<String>> requestEntity = new HttpEntity<>(emails, headers);
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/api/fetchBatch",
+                HttpMethod.POST,
+                requestEntity,
+                String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        Assertions.assertTrue(response.getBody().contains(
+                "At most " + AccountsConstants.FETCH_BATCH_MAX_EMAILS + " emails can be fetched per request"));
+    }
+}
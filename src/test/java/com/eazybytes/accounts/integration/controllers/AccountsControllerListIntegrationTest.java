@@ -0,0 +1,74 @@
+package com.eazybytes.accounts.integration.controllers;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.entities.Accounts;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AccountsControllerListIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Test
+    @DisplayName("List accounts: following the cursor visits every account exactly once")
+    public void testListAccounts_whenFollowingCursor_returnsEveryAccountOnce() {
+        // Arrange
+        List<String> emails = List.of("list1@example.com", "list2@example.com", "list3@example.com",
+                "list4@example.com", "list5@example.com");
+        for (String email : emails) {
+            Accounts account = new Accounts();
+            account.setAccountNumber(UUID.randomUUID().toString());
+            account.setName("List User");
+            account.setEmail(email);
+            account.setMobileNumber("12345678");
+            accountsRepository.save(account);
+        }
+
+        // Act: walk all pages two accounts at a time
+        List<String> listedEmails = new ArrayList<>();
+        String cursor = null;
+        do {
+            String url = cursor == null ? "/api/list?size=2" : "/api/list?size=2&cursor=" + cursor;
+            ResponseEntity<AccountsPageDto> response = testRestTemplate.getForEntity(url, AccountsPageDto.class);
+            Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+            Assertions.assertTrue(response.getBody().getAccounts().size() <= 2);
+            response.getBody().getAccounts().stream().map(AccountsDto::getEmail).forEach(listedEmails::add);
+            cursor = response.getBody().getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        Assertions.assertEquals(accountsRepository.count(), listedEmails.size());
+        Assertions.assertEquals(listedEmails.size(), new HashSet<>(listedEmails).size());
+        Assertions.assertTrue(listedEmails.containsAll(emails));
+    }
+
+    @Test
+    @DisplayName("List accounts: invalid cursor returns 400")
+    public void testListAccounts_whenCursorInvalid_returnsBadRequest() {
+        // Act
+        ResponseEntity<String> response = testRestTemplate.getForEntity(
+                "/api/list?cursor=bm90LWEtY3Vyc29y", String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        Assertions.assertTrue(response.getBody().contains("Invalid cursor"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.eazybytes.accounts.integration.controllers;
+
+import com.eazybytes.accounts.dto.OrderStatusDto;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.eazybytes.accounts.publisher.NotificationProducer;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "orders.placement.async=true")
+public class OrderControllerAsyncIntegrationTest {
+
+    private static final WireMockServer ORDERS_SERVICE = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @MockitoBean
+    private NotificationProducer notificationProducer;
+
+    @DynamicPropertySource
+    static void ordersServiceProperties(DynamicPropertyRegistry registry) {
+        ORDERS_SERVICE.start();
+        registry.add("orders.client.base-url", ORDERS_SERVICE::baseUrl);
+    }
+
+    @AfterAll
+    static void stopOrdersService() {
+        ORDERS_SERVICE.stop();
+    }
+
+    @Test
+    @DisplayName("Async create answers 202 at once and the order is placed in the background")
+    public void testPlaceOrder_whenAsync_returns202AndPlacesOrder() throws Exception {
+        // Arrange: the orders service takes longer than the 202 may
+        ORDERS_SERVICE.stubFor(post(urlPathEqualTo("/api/orders/create"))
+                .willReturn(aResponse().withStatus(201).withFixedDelay(2000)));
+        OrdersDto orderDto = new OrdersDto();
+        orderDto.setName("Async Order");
+        orderDto.setQty(1);
+        orderDto.setPrice(10.5);
+        orderDto.setStatus("Pending");
+        orderDto.setAccountNumber("account-async");
+
+        // Act
+        long start = System.nanoTime();
+        ResponseEntity<OrderStatusDto> response = testRestTemplate.postForEntity(
+                "/api/orders/create?receiverEmail=test@example.com", orderDto, OrderStatusDto.class);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        Assertions.assertTrue(elapsedMillis < 2000, "took " + elapsedMillis + "ms");
+        String orderId = response.getBody().getOrderId();
+        Assertions.assertNotNull(orderId);
+        Assertions.assertEquals(OrderStatusDto.PENDING, response.getBody().getStatus());
+        Assertions.assertEquals("/api/orders/status?orderId=" + orderId, response.getHeaders().getLocation().toString());
+
+        OrderStatusDto placed = awaitOutcome(orderId);
+        Assertions.assertEquals(OrderStatusDto.PLACED, placed.getStatus());
+        Assertions.assertEquals("201", placed.getStatusCode());
+        ORDERS_SERVICE.verify(1, postRequestedFor(urlPathEqualTo("/api/orders/create"))
+                .withRequestBody(matchingJsonPath("$.orderId", equalTo(orderId))));
+        Mockito.verify(notificationProducer).sendMessage(Mockito.argThat(event -> orderId.equals(event.getOrder().getOrderId())));
+    }
+
+    @Test
+    @DisplayName("Status of an unknown order answers 404")
+    public void testFetchOrderStatus_whenOrderUnknown_returns404() {
+        // Act
+        ResponseEntity<ResponseDto> response = testRestTemplate.getForEntity(
+                "/api/orders/status?orderId=order-unknown", ResponseDto.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Assertions.assertEquals("404", response.getBody().getStatusCode());
+    }
+
+    private OrderStatusDto awaitOutcome(String orderId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            OrderStatusDto status = testRestTemplate.getForObject("/api/orders/status?orderId=" + orderId, OrderStatusDto.class);
+            if (!OrderStatusDto.PENDING.equals(status.getStatus())) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        return Assertions.fail("Order " + orderId + " still pending");
+    }
+}
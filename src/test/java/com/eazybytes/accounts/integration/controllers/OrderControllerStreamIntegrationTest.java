@@ -0,0 +1,131 @@
+package com.eazybytes.accounts.integration.controllers;
+
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+// A short async timeout, so that a stream can outlast it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.mvc.async.request-timeout=1s")
+public class OrderControllerStreamIntegrationTest {
+
+    private static final WireMockServer ORDERS_SERVICE = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void ordersServiceProperties(DynamicPropertyRegistry registry) {
+        ORDERS_SERVICE.start();
+        registry.add("orders.client.base-url", ORDERS_SERVICE::baseUrl);
+    }
+
+    @AfterAll
+    static void stopOrdersService() {
+        ORDERS_SERVICE.stop();
+    }
+
+    @Test
+    @DisplayName("Stream all orders of an account as newline delimited JSON")
+    public void testStreamAllOrders_whenOrdersExist_returnsOneJsonLinePerOrder() throws Exception {
+        // Arrange: more orders than the stream buffer, so that the body is requested in several batches
+        StringJoiner orders = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 1000; i++) {
+            orders.add("{\"orderId\":\"order-stream-" + i + "\",\"name\":\"Keyboard\",\"accountNumber\":\"account-stream\"}");
+        }
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-stream"))
+                .willReturn(okJson(orders.toString())));
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/api/orders/streamAll?accountNumber=account-stream",
+                HttpMethod.GET,
+                new HttpEntity<>(ndjsonHeaders()),
+                String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+        String[] lines = response.getBody().split("\n");
+        Assertions.assertEquals(1000, lines.length);
+        Assertions.assertEquals("order-stream-0", objectMapper.readValue(lines[0], OrdersDto.class).getOrderId());
+        Assertions.assertEquals("order-stream-999", objectMapper.readValue(lines[999], OrdersDto.class).getOrderId());
+    }
+
+    @Test
+    @DisplayName("A stream that takes longer than the async request timeout is not cut off")
+    public void testStreamAllOrders_whenStreamOutlastsAsyncTimeout_returnsEveryOrder() throws Exception {
+        // Arrange: the orders service sends the body in pieces over three seconds
+        StringJoiner orders = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 1000; i++) {
+            orders.add("{\"orderId\":\"order-slow-" + i + "\",\"name\":\"Keyboard\",\"accountNumber\":\"account-slow\"}");
+        }
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-slow"))
+                .willReturn(okJson(orders.toString()).withChunkedDribbleDelay(10, 3000)));
+
+        // Act
+        long start = System.nanoTime();
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/api/orders/streamAll?accountNumber=account-slow",
+                HttpMethod.GET,
+                new HttpEntity<>(ndjsonHeaders()),
+                String.class);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertTrue(elapsedMillis > 2_000, "elapsed " + elapsedMillis + "ms");
+        String[] lines = response.getBody().split("\n");
+        Assertions.assertEquals(1000, lines.length);
+        Assertions.assertEquals("order-slow-999", objectMapper.readValue(lines[999], OrdersDto.class).getOrderId());
+    }
+
+    @Test
+    @DisplayName("Stream all orders answers 404 when the orders service finds none")
+    public void testStreamAllOrders_whenOrdersServiceReturns404_returns404() throws Exception {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-stream-missing"))
+                .willReturn(notFound()));
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/api/orders/streamAll?accountNumber=account-stream-missing",
+                HttpMethod.GET,
+                new HttpEntity<>(ndjsonHeaders()),
+                String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        ResponseDto responseDto = objectMapper.readValue(response.getBody(), ResponseDto.class);
+        Assertions.assertEquals("404", responseDto.getStatusCode());
+        Assertions.assertEquals("No orders found for the given criteria.", responseDto.getStatusMsg());
+    }
+
+    private static HttpHeaders ndjsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        return headers;
+    }
+}
@@ -0,0 +1,74 @@
+package com.eazybytes.accounts.integration.metrics;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.exception.ResourceNotFoundException;
+import com.eazybytes.accounts.metrics.TimedOperationsAspect;
+import com.eazybytes.accounts.service.IAccountsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+public class TimedOperationsAspectIntegrationTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Test
+    @DisplayName("Service calls are timed with their outcome")
+    public void testServiceTimer_whenCallsSucceedAndFail_tagsOutcome() {
+        // Arrange
+        AccountsDto accountDto = new AccountsDto();
+        accountDto.setAccountNumber(UUID.randomUUID().toString());
+        accountDto.setName("Timed User");
+        accountDto.setEmail("timed-user@example.com");
+        accountDto.setMobileNumber("12345678");
+
+        // Act
+        iAccountsService.createAccount(accountDto);
+        Assertions.assertThrows(ResourceNotFoundException.class,
+                () -> iAccountsService.fetchAccount("timed-missing@example.com"));
+
+        // Assert
+        Timer created = meterRegistry.find(TimedOperationsAspect.SERVICE_TIMER)
+                .tags("method", "createAccount", "outcome", "SUCCESS", "exception", "none").timer();
+        Timer notFound = meterRegistry.find(TimedOperationsAspect.SERVICE_TIMER)
+                .tags("method", "fetchAccount", "outcome", "CLIENT_ERROR", "exception", "ResourceNotFoundException").timer();
+        Assertions.assertNotNull(created);
+        Assertions.assertTrue(created.count() >= 1);
+        Assertions.assertNotNull(notFound);
+        Assertions.assertTrue(notFound.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Prometheus endpoint exposes service histogram buckets")
+    public void testPrometheusEndpoint_whenServiceCalled_exposesHistogram() {
+        // Arrange
+        Assertions.assertThrows(ResourceNotFoundException.class,
+                () -> iAccountsService.fetchAccount("timed-scrape@example.com"));
+
+        // Act
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertTrue(response.getBody().contains("accounts_service_seconds_bucket{"));
+    }
+}
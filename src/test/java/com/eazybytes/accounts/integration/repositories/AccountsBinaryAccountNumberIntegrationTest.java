@@ -0,0 +1,75 @@
+package com.eazybytes.accounts.integration.repositories;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.exception.InvalidRequestException;
+import com.eazybytes.accounts.id.IdGenerator;
+import com.eazybytes.accounts.service.IAccountsService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:binary_account_number;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("binary-account-number")
+public class AccountsBinaryAccountNumberIntegrationTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testAccountNumber_whenStoredAsBinary_roundTripsAsCanonicalString() {
+        // Arrange
+        String accountNumber = idGenerator.nextId();
+        AccountsDto accountDto = new AccountsDto();
+        accountDto.setAccountNumber(accountNumber);
+        accountDto.setName("Binary User");
+        accountDto.setEmail("binary@example.com");
+        accountDto.setMobileNumber("12345678");
+
+        AccountsDto secondAccountDto = new AccountsDto();
+        secondAccountDto.setAccountNumber(idGenerator.nextId());
+        secondAccountDto.setName("Binary User");
+        secondAccountDto.setEmail("binary2@example.com");
+        secondAccountDto.setMobileNumber("12345678");
+
+        // Act
+        iAccountsService.createAccount(accountDto);
+        iAccountsService.createAccount(secondAccountDto);
+        AccountsDto fetched = iAccountsService.fetchAccount("binary@example.com");
+        AccountsPageDto firstPage = iAccountsService.listAccounts(null, 1);
+        AccountsPageDto secondPage = iAccountsService.listAccounts(firstPage.getNextCursor(), 1);
+        List<byte[]> storedKeys = jdbcTemplate.queryForList("select account_number from accounts", byte[].class);
+
+        // Assert: the API keeps the string form, the column holds 16 bytes
+        Assertions.assertEquals(accountNumber, fetched.getAccountNumber());
+        Assertions.assertEquals(Set.of(accountNumber, secondAccountDto.getAccountNumber()),
+                Set.of(firstPage.getAccounts().get(0).getAccountNumber(), secondPage.getAccounts().get(0).getAccountNumber()));
+        Assertions.assertEquals(2, storedKeys.size());
+        Assertions.assertEquals(16, storedKeys.get(0).length);
+        Assertions.assertTrue(iAccountsService.deleteAccount("binary@example.com"));
+    }
+
+    @Test
+    void testListAccounts_whenCursorAccountNumberIsNotUuid_throwsInvalidRequest() {
+        // Arrange: a well formed cursor whose account number cannot be stored as binary
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-01-01T00:00|not-a-uuid".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        Assertions.assertThrows(InvalidRequestException.class, () -> iAccountsService.listAccounts(cursor, 10));
+    }
+}
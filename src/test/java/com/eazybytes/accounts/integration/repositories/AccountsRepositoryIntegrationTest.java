@@ -1,5 +1,6 @@
 package com.eazybytes.accounts.integration.repositories;
 
+import com.eazybytes.accounts.dto.AccountsView;
 import com.eazybytes.accounts.entities.Accounts;
 import com.eazybytes.accounts.repositories.AccountsRepository;
 import org.junit.jupiter.api.Assertions;
@@ -7,7 +8,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -69,6 +72,21 @@ public class AccountsRepositoryIntegrationTest {
 
     }
 
+    @Test
+    void testFindViewByEmail_whenGivenCorrectEmail_returnsProjection(){
+
+        //Act
+        Optional<AccountsView> storedAccount = accountsRepository.findViewByEmail(email);
+
+        //Assert
+        Assertions.assertTrue(storedAccount.isPresent());
+        Assertions.assertEquals(accountNumber, storedAccount.get().accountNumber());
+        Assertions.assertEquals(name, storedAccount.get().name());
+        Assertions.assertEquals(email, storedAccount.get().email());
+        Assertions.assertEquals(mobileNumber, storedAccount.get().mobileNumber());
+        Assertions.assertTrue(accountsRepository.findViewByEmail("IncorrectEmail@gmail.com").isEmpty());
+    }
+
     @Test
     void deleteByAccountNumber_whenGivenCorrectAccountNumber_AccountIsNotPresent(){
 
@@ -106,4 +124,61 @@ public class AccountsRepositoryIntegrationTest {
 
     }
 
+    @Test
+    void testExistsByEmail_whenGivenCorrectEmail_returnsTrue(){
+
+        //Act & Assert
+        Assertions.assertTrue(accountsRepository.existsByEmail(email));
+        Assertions.assertFalse(accountsRepository.existsByEmail("IncorrectEmail@gmail.com"));
+    }
+
+    @Test
+    void testUpdateByEmail_whenGivenCorrectEmail_updatesOneRow(){
+        //Act
+        int updatedRows = accountsRepository.updateByEmail(email, "Jane Doe", "11111111", LocalDateTime.now(), "TEST");
+        int missedRows = accountsRepository.updateByEmail("IncorrectEmail@gmail.com", "Jane Doe", "11111111", LocalDateTime.now(), "TEST");
+
+        //Assert
+        Assertions.assertEquals(1, updatedRows);
+        Assertions.assertEquals(0, missedRows);
+        Accounts storedAccount = accountsRepository.findByEmail(email).orElseThrow();
+        Assertions.assertEquals("Jane Doe", storedAccount.getName());
+        Assertions.assertEquals("11111111", storedAccount.getMobileNumber());
+        Assertions.assertEquals("TEST", storedAccount.getUpdatedBy());
+    }
+
+    @Test
+    void testDeleteByEmail_whenGivenCorrectEmail_deletesOneRow(){
+        //Act & Assert
+        Assertions.assertEquals(0, accountsRepository.deleteByEmail("IncorrectEmail@gmail.com"));
+        Assertions.assertEquals(1, accountsRepository.deleteByEmail(email));
+        Assertions.assertTrue(accountsRepository.findByEmail(email).isEmpty());
+    }
+
+    @Test
+    void testSave_whenEmailAlreadyUsedByAnotherAccount_throwsDataIntegrityViolation(){
+        //Arrange
+        Accounts duplicate = new Accounts();
+        duplicate.setName(name);
+        duplicate.setEmail(email);
+        duplicate.setMobileNumber(mobileNumber);
+        duplicate.setAccountNumber("0987654321");
+
+        //Act & Assert
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> accountsRepository.saveAndFlush(duplicate));
+    }
+
+    @Test
+    void testPersist_whenEmailAlreadyUsedByAnotherAccount_throwsDataIntegrityViolation(){
+        //Arrange
+        Accounts duplicate = new Accounts();
+        duplicate.setName(name);
+        duplicate.setEmail(email);
+        duplicate.setMobileNumber(mobileNumber);
+        duplicate.setAccountNumber("0987654321");
+
+        //Act & Assert
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> accountsRepository.persist(duplicate));
+    }
+
 }
@@ -0,0 +1,121 @@
+package com.eazybytes.accounts.integration.servicies;
+
+import com.eazybytes.accounts.config.CacheConfig;
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsView;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import com.eazybytes.accounts.service.IAccountsService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AccountsServiceImplCacheIntegrationTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private AccountsRepository accountsRepository;
+
+    String email = "cached@example.com";
+
+    AccountsDto accountDto;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+
+        // Arrange
+        accountDto = new AccountsDto();
+        accountDto.setAccountNumber("1234567890");
+        accountDto.setName("Rolands Bidzans");
+        accountDto.setEmail(email);
+        accountDto.setMobileNumber("12345678");
+
+        AccountsView account = new AccountsView(accountDto.getAccountNumber(), accountDto.getName(), email,
+                accountDto.getMobileNumber(), 0);
+        Mockito.when(accountsRepository.findViewByEmail(email)).thenReturn(Optional.of(account));
+        Mockito.when(accountsRepository.updateByEmail(Mockito.eq(email), Mockito.anyString(), Mockito.anyString(),
+                Mockito.any(), Mockito.any())).thenReturn(1);
+        Mockito.when(accountsRepository.deleteByEmail(email)).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("Repeated fetch is served from cache")
+    void testFetchAccount_whenFetchedTwice_repositoryIsCalledOnce() {
+        // Act
+        AccountsDto first = iAccountsService.fetchAccount(email);
+        AccountsDto second = iAccountsService.fetchAccount(email);
+
+        // Assert
+        Assertions.assertEquals(first, second);
+        Mockito.verify(accountsRepository, Mockito.times(1)).findViewByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Update evicts cached account")
+    void testFetchAccount_whenAccountUpdated_cacheIsEvicted() {
+        // Arrange
+        iAccountsService.fetchAccount(email);
+
+        // Act
+        iAccountsService.updateAccount(accountDto);
+        iAccountsService.fetchAccount(email);
+
+        // Assert: one lookup per fetch, update itself does not load the account
+        Mockito.verify(accountsRepository, Mockito.times(2)).findViewByEmail(email);
+    }
+
+    @Test
+    @DisplayName("Fetch that read before an update does not cache the old account")
+    void testFetchAccount_whenUpdateCommitsDuringFetch_oldAccountIsNotCached() throws Exception {
+        // Arrange: the fetch reads the old row, then stalls until the update is done
+        AccountsView oldAccount = new AccountsView(accountDto.getAccountNumber(), "Old Name", email,
+                accountDto.getMobileNumber(), 0);
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+        Mockito.when(accountsRepository.findViewByEmail(email)).thenAnswer(invocation -> {
+            read.countDown();
+            updated.await(5, TimeUnit.SECONDS);
+            return Optional.of(oldAccount);
+        });
+
+        // Act
+        CompletableFuture<AccountsDto> fetch = CompletableFuture.supplyAsync(() -> iAccountsService.fetchAccount(email));
+        Assertions.assertTrue(read.await(5, TimeUnit.SECONDS));
+        iAccountsService.updateAccount(accountDto);
+        updated.countDown();
+
+        // Assert: the fetch itself answers what it read, but the cache does not keep it
+        Assertions.assertEquals("Old Name", fetch.get(5, TimeUnit.SECONDS).getName());
+        Assertions.assertNull(cacheManager.getCache(CacheConfig.ACCOUNTS_CACHE).get(email));
+    }
+
+    @Test
+    @DisplayName("Delete evicts cached account")
+    void testFetchAccount_whenAccountDeleted_cacheIsEvicted() {
+        // Arrange
+        iAccountsService.fetchAccount(email);
+
+        // Act
+        iAccountsService.deleteAccount(email);
+
+        // Assert
+        Assertions.assertNull(cacheManager.getCache(CacheConfig.ACCOUNTS_CACHE).get(email));
+    }
+}
@@ -0,0 +1,84 @@
+package com.eazybytes.accounts.integration.servicies;
+
+import com.eazybytes.accounts.cache.EmailBloomFilter;
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.entities.Accounts;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import com.eazybytes.accounts.service.IAccountsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class EmailBloomFilterIntegrationTest {
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Filter follows creates and deletes")
+    public void testFilter_whenAccountCreatedAndDeleted_tracksEmail() {
+        // Arrange
+        String email = "bloom-create@example.com";
+        AccountsDto accountDto = new AccountsDto();
+        accountDto.setAccountNumber(UUID.randomUUID().toString());
+        accountDto.setName("Bloom User");
+        accountDto.setEmail(email);
+        accountDto.setMobileNumber("12345678");
+
+        // Act & Assert
+        iAccountsService.createAccount(accountDto);
+        Assertions.assertTrue(emailBloomFilter.mightContain(email));
+
+        iAccountsService.deleteAccount(email);
+        Assertions.assertFalse(emailBloomFilter.mightContain(email));
+    }
+
+    @Test
+    @DisplayName("Rebuild picks up accounts stored past the service")
+    public void testRebuild_whenAccountStoredDirectly_containsEmail() {
+        // Arrange
+        String email = "bloom-rebuild@example.com";
+        Accounts account = new Accounts();
+        account.setAccountNumber(UUID.randomUUID().toString());
+        account.setName("Bloom User");
+        account.setEmail(email);
+        account.setMobileNumber("12345678");
+        accountsRepository.save(account);
+
+        // Act
+        emailBloomFilter.rebuild();
+
+        // Assert
+        Assertions.assertTrue(emailBloomFilter.mightContain(email));
+    }
+
+    @Test
+    @DisplayName("Unknown emails are definite misses and the false positive rate is published")
+    public void testMightContain_whenEmailsUnknown_mostlyMisses() {
+        // Act
+        long possibleHits = IntStream.range(0, 10_000)
+                .filter(i -> emailBloomFilter.mightContain("bloom-unknown" + i + "@example.com"))
+                .count();
+
+        // Assert: far below the configured 1% at this fill
+        Assertions.assertTrue(possibleHits < 10, "Unexpected possible hits: " + possibleHits);
+        Assertions.assertNotNull(meterRegistry.find("accounts.email.filter.fpp.estimated").gauge());
+        Assertions.assertNotNull(meterRegistry.find("accounts.email.filter.fpp.observed").gauge());
+    }
+}
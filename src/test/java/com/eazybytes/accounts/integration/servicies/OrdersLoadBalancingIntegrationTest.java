@@ -0,0 +1,93 @@
+package com.eazybytes.accounts.integration.servicies;
+
+import com.eazybytes.accounts.config.RESTConfiguration;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.service.IReactiveOrderService;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+@SpringBootTest(properties = {
+        "orders.client.load-balancer.decay-time=1s",
+        "orders.client.load-balancer.eject-after-failures=1",
+        "orders.client.load-balancer.ejection-time=1m"
+})
+public class OrdersLoadBalancingIntegrationTest {
+
+    private static final WireMockServer FAST_INSTANCE = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    private static final WireMockServer SLOW_INSTANCE = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    private static final WireMockServer BROKEN_INSTANCE = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+
+    @Autowired
+    private IReactiveOrderService iReactiveOrderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void ordersServiceProperties(DynamicPropertyRegistry registry) {
+        for (WireMockServer instance : List.of(FAST_INSTANCE, SLOW_INSTANCE, BROKEN_INSTANCE)) {
+            instance.start();
+        }
+        FAST_INSTANCE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .willReturn(okJson("{\"name\":\"fast\"}").withFixedDelay(5)));
+        SLOW_INSTANCE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .willReturn(okJson("{\"name\":\"slow\"}").withFixedDelay(150)));
+        BROKEN_INSTANCE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .willReturn(serviceUnavailable()));
+        registry.add("orders.client.instances",
+                () -> FAST_INSTANCE.baseUrl() + "," + SLOW_INSTANCE.baseUrl() + "," + BROKEN_INSTANCE.baseUrl());
+    }
+
+    @AfterAll
+    static void stopOrdersService() {
+        for (WireMockServer instance : List.of(FAST_INSTANCE, SLOW_INSTANCE, BROKEN_INSTANCE)) {
+            instance.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Fetches prefer the fast instance and stop going to a failing one")
+    public void testFetchOrder_whenInstancesDiffer_prefersFastAndEjectsBroken() {
+        // Act: distinct order ids, so that neither the cache nor coalescing hide any call
+        for (int i = 0; i < 60; i++) {
+            OrdersDto order = iReactiveOrderService.fetchOrder("order-lb-" + i).block();
+            Assertions.assertNotNull(order);
+            Assertions.assertNotEquals("broken", order.getName());
+        }
+
+        // Assert
+        int fast = FAST_INSTANCE.findAll(getRequestedFor(urlPathEqualTo("/api/orders/fetch"))).size();
+        int slow = SLOW_INSTANCE.findAll(getRequestedFor(urlPathEqualTo("/api/orders/fetch"))).size();
+        int broken = BROKEN_INSTANCE.findAll(getRequestedFor(urlPathEqualTo("/api/orders/fetch"))).size();
+        Assertions.assertTrue(fast > slow, "fast " + fast + ", slow " + slow);
+        Assertions.assertEquals(1, broken);
+        Assertions.assertEquals(1, gauge("accounts.loadbalancer.ejected", BROKEN_INSTANCE));
+        Assertions.assertEquals(0, gauge("accounts.loadbalancer.ejected", FAST_INSTANCE));
+        Assertions.assertEquals(1, meterRegistry.get("accounts.loadbalancer.ejections")
+                .tags("instance", authority(BROKEN_INSTANCE)).counter().count());
+        Assertions.assertEquals(fast, meterRegistry.get("accounts.loadbalancer.requests")
+                .tags("instance", authority(FAST_INSTANCE)).counter().count());
+    }
+
+    private double gauge(String name, WireMockServer instance) {
+        return meterRegistry.get(name)
+                .tags("name", RESTConfiguration.ORDERS_CONNECTION_POOL, "instance", authority(instance)).gauge().value();
+    }
+
+    private static String authority(WireMockServer instance) {
+        return "localhost:" + instance.port();
+    }
+}
@@ -0,0 +1,383 @@
+package com.eazybytes.accounts.integration.servicies;
+
+import com.eazybytes.accounts.config.CacheConfig;
+import com.eazybytes.accounts.config.RESTConfiguration;
+import com.eazybytes.accounts.config.ResilienceConfig;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.eazybytes.accounts.publisher.NotificationProducer;
+import com.eazybytes.accounts.service.IReactiveOrderService;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+@SpringBootTest(properties = "orders.client.response-timeout=500ms")
+@AutoConfigureObservability
+public class ReactiveOrderServiceImplIntegrationTest {
+
+    private static final WireMockServer ORDERS_SERVICE = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+
+    @Autowired
+    private IReactiveOrderService iReactiveOrderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private NotificationProducer notificationProducer;
+
+    @DynamicPropertySource
+    static void ordersServiceProperties(DynamicPropertyRegistry registry) {
+        ORDERS_SERVICE.start();
+        registry.add("orders.client.base-url", ORDERS_SERVICE::baseUrl);
+    }
+
+    @AfterAll
+    static void stopOrdersService() {
+        ORDERS_SERVICE.stop();
+    }
+
+    @Test
+    @DisplayName("Orders are fetched from the configured base URL")
+    public void testFetchOrder_whenOrdersServiceResponds_returnsOrder() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-1"))
+                .willReturn(okJson("{\"orderId\":\"order-1\",\"name\":\"Keyboard\",\"qty\":2,\"price\":49.99}")));
+
+        // Act
+        OrdersDto order = iReactiveOrderService.fetchOrder("order-1").block();
+
+        // Assert
+        Assertions.assertNotNull(order);
+        Assertions.assertEquals("Keyboard", order.getName());
+    }
+
+    @Test
+    @DisplayName("Slow orders service responses fail after the response timeout")
+    public void testFetchOrder_whenOrdersServiceIsSlow_failsWithTimeout() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-slow"))
+                .willReturn(okJson("{\"orderId\":\"order-slow\"}").withFixedDelay(2_000)));
+
+        // Act & Assert
+        Assertions.assertThrows(WebClientRequestException.class,
+                () -> iReactiveOrderService.fetchOrder("order-slow").block());
+    }
+
+    @Test
+    @DisplayName("Orders connection pool publishes its gauges")
+    public void testConnectionPool_whenOrdersServiceCalled_publishesPoolMetrics() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .willReturn(okJson("[]")));
+
+        // Act
+        iReactiveOrderService.fetchAllOrders("account-1").collectList().block();
+
+        // Assert
+        for (String gauge : new String[]{"total", "active", "idle", "pending"}) {
+            Gauge connections = meterRegistry.find("reactor.netty.connection.provider." + gauge + ".connections")
+                    .tag("name", RESTConfiguration.ORDERS_CONNECTION_POOL).gauge();
+            Assertions.assertNotNull(connections, gauge + " connections gauge");
+        }
+    }
+
+    @Test
+    @DisplayName("A 503 from the orders service is retried")
+    public void testFetchOrder_whenOrdersServiceFailsOnce_retriesAndReturnsOrder() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-retry"))
+                .inScenario("retry").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(serviceUnavailable())
+                .willSetStateTo("recovered"));
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-retry"))
+                .inScenario("retry").whenScenarioStateIs("recovered")
+                .willReturn(okJson("{\"orderId\":\"order-retry\",\"name\":\"Mouse\"}")));
+
+        // Act
+        OrdersDto order = iReactiveOrderService.fetchOrder("order-retry").block();
+
+        // Assert
+        Assertions.assertNotNull(order);
+        Assertions.assertEquals("Mouse", order.getName());
+        ORDERS_SERVICE.verify(2, getRequestedFor(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-retry")));
+    }
+
+    @Test
+    @DisplayName("A 4xx from the orders service is not retried")
+    public void testFetchOrder_whenOrderNotFound_doesNotRetry() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-missing"))
+                .willReturn(notFound()));
+
+        // Act & Assert
+        Assertions.assertThrows(WebClientResponseException.NotFound.class,
+                () -> iReactiveOrderService.fetchOrder("order-missing").block());
+        ORDERS_SERVICE.verify(1, getRequestedFor(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-missing")));
+    }
+
+    @Test
+    @DisplayName("An open circuit fails fast without calling the orders service")
+    public void testDeleteOrder_whenCircuitOpen_failsWithoutCall() {
+        // Arrange
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(ResilienceConfig.ORDERS_DELETE);
+        circuitBreaker.transitionToOpenState();
+
+        try {
+            // Act & Assert
+            Assertions.assertThrows(CallNotPermittedException.class,
+                    () -> iReactiveOrderService.deleteOrderDetails("order-open").block());
+            ORDERS_SERVICE.verify(0, deleteRequestedFor(urlPathEqualTo("/api/orders/delete"))
+                    .withQueryParam("orderId", equalTo("order-open")));
+            Assertions.assertTrue(meterRegistry.get(ResilienceConfig.CIRCUIT_BREAKER_TRANSITIONS)
+                    .tags("name", ResilienceConfig.ORDERS_DELETE, "from", "CLOSED", "to", "OPEN").counter().count() >= 1);
+        }
+        finally {
+            circuitBreaker.transitionToClosedState();
+        }
+    }
+
+    @Test
+    @DisplayName("Repeated orders service failures open the circuit")
+    public void testUpdateOrder_whenOrdersServiceKeepsFailing_opensCircuit() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(put(urlPathEqualTo("/api/orders/update"))
+                .willReturn(serverError()));
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(ResilienceConfig.ORDERS_UPDATE);
+        OrdersDto orderDto = new OrdersDto();
+        orderDto.setOrderId("order-update");
+
+        try {
+            // Act
+            for (int i = 0; i < 30; i++) {
+                try {
+                    iReactiveOrderService.updateOrderDetails(orderDto).block();
+                }
+                catch (RuntimeException expected) {
+                    // 500 or, once the circuit is open, CallNotPermittedException
+                }
+            }
+
+            // Assert: the breaker opened after its minimum number of calls, later calls never left the service
+            Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+            Assertions.assertTrue(ORDERS_SERVICE.findAll(putRequestedFor(urlPathEqualTo("/api/orders/update"))).size() < 30);
+        }
+        finally {
+            circuitBreaker.transitionToClosedState();
+        }
+    }
+
+    @Test
+    @DisplayName("A fetched order is served from the cache the second time")
+    public void testFetchOrder_whenFetchedTwice_callsOrdersServiceOnce() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-cached"))
+                .willReturn(okJson("{\"orderId\":\"order-cached\",\"name\":\"Monitor\"}")));
+        double hitsBefore = cacheGets(CacheConfig.ORDERS_CACHE, "hit");
+
+        // Act
+        OrdersDto first = iReactiveOrderService.fetchOrder("order-cached").block();
+        OrdersDto second = iReactiveOrderService.fetchOrder("order-cached").block();
+
+        // Assert
+        Assertions.assertEquals("Monitor", first.getName());
+        Assertions.assertEquals("Monitor", second.getName());
+        ORDERS_SERVICE.verify(1, getRequestedFor(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-cached")));
+        Assertions.assertEquals(hitsBefore + 1, cacheGets(CacheConfig.ORDERS_CACHE, "hit"));
+    }
+
+    @Test
+    @DisplayName("Deleting an order drops the cached orders of its account")
+    public void testDeleteOrder_whenAccountOrdersCached_evictsAccountOrders() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-delete"))
+                .willReturn(okJson("[{\"orderId\":\"order-d1\",\"accountNumber\":\"account-delete\"},"
+                        + "{\"orderId\":\"order-d2\",\"accountNumber\":\"account-delete\"}]")));
+        ORDERS_SERVICE.stubFor(delete(urlPathEqualTo("/api/orders/delete"))
+                .withQueryParam("orderId", equalTo("order-d1"))
+                .willReturn(okJson("{\"statusCode\":\"200\",\"statusMsg\":\"Order deleted successfully\"}")));
+
+        // Act
+        List<OrdersDto> before = iReactiveOrderService.fetchAllOrders("account-delete").collectList().block();
+        iReactiveOrderService.fetchAllOrders("account-delete").collectList().block();
+        iReactiveOrderService.deleteOrderDetails("order-d1").block();
+        iReactiveOrderService.fetchAllOrders("account-delete").collectList().block();
+
+        // Assert: one call filled the cache, the one after the delete had to go to the orders service again
+        Assertions.assertEquals(2, before.size());
+        ORDERS_SERVICE.verify(2, getRequestedFor(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-delete")));
+    }
+
+    @Test
+    @DisplayName("Deleting an order drops its account's orders even after the order left the orders cache")
+    public void testDeleteOrder_whenOrderNoLongerCachedById_evictsAccountOrders() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-owner"))
+                .willReturn(okJson("[{\"orderId\":\"order-o1\",\"accountNumber\":\"account-owner\"}]")));
+        ORDERS_SERVICE.stubFor(delete(urlPathEqualTo("/api/orders/delete"))
+                .withQueryParam("orderId", equalTo("order-o1"))
+                .willReturn(okJson("{\"statusCode\":\"200\",\"statusMsg\":\"Order deleted successfully\"}")));
+        iReactiveOrderService.fetchAllOrders("account-owner").collectList().block();
+        // Size eviction of the orders cache is independent of the account lists
+        cacheManager.getCache(CacheConfig.ORDERS_CACHE).evict("order-o1");
+
+        // Act
+        iReactiveOrderService.deleteOrderDetails("order-o1").block();
+        iReactiveOrderService.fetchAllOrders("account-owner").collectList().block();
+
+        // Assert
+        ORDERS_SERVICE.verify(2, getRequestedFor(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-owner")));
+    }
+
+    @Test
+    @DisplayName("Updating an order evicts it from the cache")
+    public void testUpdateOrder_whenOrderCached_evictsOrder() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-updated"))
+                .willReturn(okJson("{\"orderId\":\"order-updated\",\"status\":\"pending\"}")));
+        ORDERS_SERVICE.stubFor(put(urlPathEqualTo("/api/orders/update"))
+                .withRequestBody(matchingJsonPath("$.orderId", equalTo("order-updated")))
+                .willReturn(okJson("{\"statusCode\":\"200\",\"statusMsg\":\"Order updated successfully\"}")));
+        OrdersDto orderDto = new OrdersDto();
+        orderDto.setOrderId("order-updated");
+        orderDto.setStatus("shipped");
+
+        // Act
+        iReactiveOrderService.fetchOrder("order-updated").block();
+        iReactiveOrderService.updateOrderDetails(orderDto).block();
+        iReactiveOrderService.fetchOrder("order-updated").block();
+
+        // Assert
+        ORDERS_SERVICE.verify(2, getRequestedFor(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-updated")));
+    }
+
+    @Test
+    @DisplayName("A created order is cached")
+    public void testCreateOrder_whenCreated_cachesOrder() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(post(urlPathEqualTo("/api/orders/create"))
+                .willReturn(aResponse().withStatus(201)));
+        OrdersDto orderDto = new OrdersDto();
+        orderDto.setName("Headset");
+        orderDto.setAccountNumber("account-create");
+
+        // Act
+        ResponseDto response = iReactiveOrderService.createOrder("create@example.com", orderDto).block();
+        OrdersDto fetched = iReactiveOrderService.fetchOrder(orderDto.getOrderId()).block();
+
+        // Assert
+        Assertions.assertEquals("201", response.getStatusCode());
+        Assertions.assertEquals("Headset", fetched.getName());
+        ORDERS_SERVICE.verify(0, getRequestedFor(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo(orderDto.getOrderId())));
+    }
+
+    @Test
+    @DisplayName("Concurrent fetches of the same order share one orders service call")
+    public void testFetchOrder_whenFetchedConcurrently_callsOrdersServiceOnce() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-popular"))
+                .willReturn(okJson("{\"orderId\":\"order-popular\",\"name\":\"Laptop\"}").withFixedDelay(300)));
+        double coalescedBefore = meterRegistry.get("accounts.singleflight.calls")
+                .tags("name", CacheConfig.ORDERS_CACHE, "result", "coalesced").counter().count();
+
+        // Act
+        List<OrdersDto> orders = Flux.range(0, 10)
+                .flatMap(i -> iReactiveOrderService.fetchOrder("order-popular"))
+                .collectList()
+                .block();
+
+        // Assert
+        Assertions.assertEquals(10, orders.size());
+        ORDERS_SERVICE.verify(1, getRequestedFor(urlPathEqualTo("/api/orders/fetch"))
+                .withQueryParam("orderId", equalTo("order-popular")));
+        Assertions.assertEquals(coalescedBefore + 9, meterRegistry.get("accounts.singleflight.calls")
+                .tags("name", CacheConfig.ORDERS_CACHE, "result", "coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("Streamed orders are decoded only as fast as they are consumed")
+    public void testStreamAllOrders_whenConsumerTakesFew_returnsFirstOrders() {
+        // Arrange
+        StringBuilder orders = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            orders.append(i == 0 ? "" : ",").append("{\"orderId\":\"order-big-").append(i).append("\",\"name\":\"Mouse\"}");
+        }
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-big"))
+                .willReturn(okJson(orders.append("]").toString())));
+
+        // Act
+        List<OrdersDto> firstOrders = iReactiveOrderService.streamAllOrders("account-big")
+                .flatMapMany(stream -> stream.take(3))
+                .collectList()
+                .block();
+
+        // Assert
+        Assertions.assertEquals(List.of("order-big-0", "order-big-1", "order-big-2"),
+                firstOrders.stream().map(OrdersDto::getOrderId).toList());
+    }
+
+    @Test
+    @DisplayName("A 404 from the orders service fails the stream before any order")
+    public void testStreamAllOrders_whenOrdersNotFound_failsBeforeStream() {
+        // Arrange
+        ORDERS_SERVICE.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .withQueryParam("accountNumber", equalTo("account-none"))
+                .willReturn(notFound()));
+
+        // Act & Assert
+        WebClientResponseException e = Assertions.assertThrows(WebClientResponseException.class,
+                () -> iReactiveOrderService.streamAllOrders("account-none").block());
+        Assertions.assertEquals(404, e.getStatusCode().value());
+    }
+
+    private double cacheGets(String cacheName, String result) {
+        return meterRegistry.get("cache.gets").tags("cache", cacheName, "result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,29 @@
+package com.eazybytes.accounts.loadtest;
+
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Counts order service calls that are currently waiting for a response, and the highest count seen
+class InFlightOrdersFilter implements WebClientCustomizer {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Override
+    public void customize(WebClient.Builder webClientBuilder) {
+        webClientBuilder.filter((request, next) -> next.exchange(request)
+                .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doFinally(signal -> inFlight.decrementAndGet()));
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    void reset() {
+        maxInFlight.set(inFlight.get());
+    }
+}
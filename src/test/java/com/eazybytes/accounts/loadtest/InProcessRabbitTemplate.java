@@ -0,0 +1,65 @@
+package com.eazybytes.accounts.loadtest;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Broker stand-in for load tests. Messages are still converted to JSON like on the real template,
+    then handed to a bounded in-memory queue that a single consumer thread drains. A full queue blocks
+    the publisher, the same back pressure a slow broker with publisher confirms would apply.
+ */
+class InProcessRabbitTemplate extends RabbitTemplate {
+
+    private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(10_000);
+
+    private final AtomicLong published = new AtomicLong();
+
+    private final AtomicLong consumed = new AtomicLong();
+
+    // The connection factory is only there to satisfy RabbitTemplate, send() never opens a connection
+    InProcessRabbitTemplate(ConnectionFactory connectionFactory) {
+        super(connectionFactory);
+        setMessageConverter(new Jackson2JsonMessageConverter());
+        Thread consumer = new Thread(this::consume, "in-process-rabbit-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+        try {
+            queue.put(message);
+            published.incrementAndGet();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long published() {
+        return published.get();
+    }
+
+    long consumed() {
+        return consumed.get();
+    }
+
+    private void consume() {
+        try {
+            while (true) {
+                getMessageConverter().fromMessage(queue.take());
+                consumed.incrementAndGet();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
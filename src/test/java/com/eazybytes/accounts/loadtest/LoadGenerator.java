@@ -0,0 +1,189 @@
+package com.eazybytes.accounts.loadtest;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/*
+    Drives a weighted mix of /api and /api/orders requests with a fixed number of workers.
+    With a target rate every worker follows its own schedule and latency is measured from the intended
+    start time, so a stalled service shows up in the percentiles instead of silently lowering the load.
+ */
+class LoadGenerator {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicLong createdAccounts = new AtomicLong();
+
+    private final URI baseUri;
+
+    private final LoadTestSettings settings;
+
+    private final List<SeededAccount> accounts;
+
+    private final Map<String, Function<ThreadLocalRandom, HttpRequest>> operations = new LinkedHashMap<>();
+
+    private final String[] operationNames;
+
+    private final int[] cumulativeWeights;
+
+    LoadGenerator(URI baseUri, LoadTestSettings settings, List<SeededAccount> accounts) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.accounts = accounts;
+
+        operations.put("account.fetch", random -> get("/api/fetch?email=" + randomAccount(random).email()));
+        operations.put("account.list", random -> get("/api/list?size=20"));
+        operations.put("account.create", random -> send("POST", "/api/create",
+                account("loadtest-" + createdAccounts.incrementAndGet() + "@example.com")));
+        operations.put("account.update", random -> send("PUT", "/api/update", account(randomAccount(random).email())));
+        operations.put("orders.create", random -> {
+            SeededAccount account = randomAccount(random);
+            return send("POST", "/api/orders/create?receiverEmail=" + account.email(),
+                    new OrdersDto(null, "Keyboard", 2, 49.99, "pending", account.accountNumber()));
+        });
+        operations.put("orders.fetchAll", random -> get("/api/orders/fetchAll?accountNumber=" + randomAccount(random).accountNumber()));
+        operations.put("orders.fetch", random -> get("/api/orders/fetch?orderId=" + UUID.randomUUID()));
+
+        operationNames = settings.mix().keySet().toArray(String[]::new);
+        cumulativeWeights = new int[operationNames.length];
+        int total = 0;
+        for (int i = 0; i < operationNames.length; i++) {
+            if (!operations.containsKey(operationNames[i])) {
+                throw new IllegalArgumentException("Unknown operation '" + operationNames[i] + "', known: " + operations.keySet());
+            }
+            total += settings.mix().get(operationNames[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Map<String, OperationStats> run(int seconds) throws Exception {
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        for (String operationName : operationNames) {
+            stats.put(operationName, new OperationStats());
+        }
+
+        long intervalNanos = settings.targetRate() > 0
+                ? TimeUnit.SECONDS.toNanos(settings.concurrency()) / settings.targetRate()
+                : 0;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < settings.concurrency(); worker++) {
+                // Spread the worker schedules over one interval instead of firing them all at once
+                long firstStart = start + (intervalNanos * worker) / settings.concurrency();
+                futures.add(workers.submit(() -> work(stats, firstStart, intervalNanos, end)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            workers.shutdownNow();
+        }
+        return stats;
+    }
+
+    private Void work(Map<String, OperationStats> stats, long firstStart, long intervalNanos, long end) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intendedStart = firstStart;
+        while (intendedStart < end) {
+            if (intervalNanos > 0) {
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            else {
+                intendedStart = System.nanoTime();
+            }
+
+            String operationName = pick(random);
+            int statusCode;
+            try {
+                statusCode = httpClient.send(operations.get(operationName).apply(random),
+                        HttpResponse.BodyHandlers.discarding()).statusCode();
+            }
+            catch (IOException e) {
+                statusCode = -1;
+            }
+            stats.get(operationName).record(System.nanoTime() - intendedStart, statusCode);
+
+            if (intervalNanos > 0) {
+                intendedStart += intervalNanos;
+            }
+            else {
+                intendedStart = System.nanoTime();
+            }
+        }
+        return null;
+    }
+
+    private String pick(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operationNames[i];
+            }
+        }
+        return operationNames[operationNames.length - 1];
+    }
+
+    private SeededAccount randomAccount(ThreadLocalRandom random) {
+        return accounts.get(random.nextInt(accounts.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static AccountsDto account(String email) {
+        AccountsDto accountDto = new AccountsDto();
+        accountDto.setName("Load Test User");
+        accountDto.setEmail(email);
+        accountDto.setMobileNumber("12345678");
+        return accountDto;
+    }
+}
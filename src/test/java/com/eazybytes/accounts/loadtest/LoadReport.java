@@ -0,0 +1,60 @@
+package com.eazybytes.accounts.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/*
+    Prints throughput and latency percentiles per operation and writes one .hgrm percentile distribution
+    per operation, which can be plotted with the HdrHistogram plotter.
+ */
+class LoadReport {
+
+    private final Map<String, OperationStats> stats;
+
+    private final int durationSeconds;
+
+    LoadReport(Map<String, OperationStats> stats, int durationSeconds) {
+        this.stats = stats;
+        this.durationSeconds = durationSeconds;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-16s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<String, OperationStats> entry : stats.entrySet()) {
+            printRow(out, entry.getKey(), entry.getValue().latencies(), entry.getValue().errors());
+            total.add(entry.getValue().latencies());
+            totalErrors += entry.getValue().errors();
+        }
+        printRow(out, "total", total, totalErrors);
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, OperationStats> entry : stats.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")))) {
+                // Recorded in microseconds, reported in milliseconds
+                entry.getValue().latencies().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private void printRow(PrintStream out, String operation, Histogram latencies, long errors) {
+        out.printf("%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, latencies.getTotalCount(), errors, latencies.getTotalCount() / (double) durationSeconds,
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
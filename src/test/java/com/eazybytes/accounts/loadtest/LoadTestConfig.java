@@ -0,0 +1,25 @@
+package com.eazybytes.accounts.loadtest;
+
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+// Stand-ins and probes for LoadTestRunner. Profile guarded, the class sits on the test classpath
+// where component scanning also finds it
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Bean
+    @Primary
+    InProcessRabbitTemplate inProcessRabbitTemplate(ConnectionFactory connectionFactory) {
+        return new InProcessRabbitTemplate(connectionFactory);
+    }
+
+    @Bean
+    InFlightOrdersFilter inFlightOrdersFilter() {
+        return new InFlightOrdersFilter();
+    }
+}
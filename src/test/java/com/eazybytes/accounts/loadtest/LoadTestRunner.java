@@ -0,0 +1,95 @@
+package com.eazybytes.accounts.loadtest;
+
+import com.eazybytes.accounts.AccountsApplication;
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.BatchItemResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+    Self-contained load test: starts the orders service stub, boots the application with the loadtest
+    profile (in-process broker, random port), seeds accounts, warms up and then measures the configured mix.
+    mvn -Ploadtest test-compile exec:exec -Dloadtest.args="-Dloadtest.duration=60 -Dloadtest.rate=500"
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        // Devtools would run main a second time in its restart class loader and start a second stub
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        OrdersServiceStub ordersService = new OrdersServiceStub(settings.ordersPort(), settings.ordersMedianDelayMs());
+        ConfigurableApplicationContext context = null;
+        try {
+            ordersService.start();
+            context = new SpringApplicationBuilder(AccountsApplication.class)
+                    .properties("orders.client.base-url=http://localhost:" + settings.ordersPort())
+                    .profiles(settings.virtualThreads() ? new String[]{"loadtest", "virtual-threads"} : new String[]{"loadtest"})
+                    .run(args);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            List<SeededAccount> accounts = seed(baseUri, settings.seedAccounts());
+            LoadGenerator loadGenerator = new LoadGenerator(baseUri, settings, accounts);
+
+            System.out.printf("Seeded %d accounts, warming up for %ds%n", accounts.size(), settings.warmupSeconds());
+            loadGenerator.run(settings.warmupSeconds());
+
+            System.out.printf("Measuring for %ds with %d workers on %s threads, %s, mix %s%n", settings.durationSeconds(),
+                    settings.concurrency(), settings.virtualThreads() ? "virtual" : "platform",
+                    settings.targetRate() > 0 ? settings.targetRate() + " req/s" : "closed loop", settings.mix());
+            InFlightOrdersFilter inFlightOrders = context.getBean(InFlightOrdersFilter.class);
+            inFlightOrders.reset();
+            Map<String, OperationStats> stats = loadGenerator.run(settings.durationSeconds());
+
+            LoadReport report = new LoadReport(stats, settings.durationSeconds());
+            report.print(System.out);
+            report.write(settings.reportDirectory());
+
+            InProcessRabbitTemplate rabbitTemplate = context.getBean(InProcessRabbitTemplate.class);
+            System.out.printf("Max in-flight order service calls %d%n", inFlightOrders.maxInFlight());
+            System.out.printf("Notifications published %d, consumed %d, histograms in %s%n",
+                    rabbitTemplate.published(), rabbitTemplate.consumed(), settings.reportDirectory().toAbsolutePath());
+        }
+        finally {
+            if (context != null) {
+                context.close();
+            }
+            ordersService.stop();
+        }
+        System.exit(0);
+    }
+
+    private static List<SeededAccount> seed(URI baseUri, int count) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<AccountsDto> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(LoadGenerator.account("seed-" + i + "@example.com"));
+        }
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(baseUri.resolve("/api/createBatch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding accounts failed with status " + response.statusCode());
+        }
+
+        List<SeededAccount> accounts = new ArrayList<>(count);
+        for (BatchItemResponseDto item : objectMapper.readValue(response.body(), new TypeReference<List<BatchItemResponseDto>>() {})) {
+            accounts.add(new SeededAccount(item.getEmail(), item.getAccountNumber()));
+        }
+        return accounts;
+    }
+}
@@ -0,0 +1,52 @@
+package com.eazybytes.accounts.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    Load test knobs, read from system properties so they can be passed through -Dloadtest.args.
+    The mix is a comma separated list of operation=weight pairs, see LoadGenerator for the operation names.
+ */
+record LoadTestSettings(int durationSeconds,
+                        int warmupSeconds,
+                        int concurrency,
+                        int targetRate,
+                        int seedAccounts,
+                        int ordersPort,
+                        int ordersMedianDelayMs,
+                        boolean virtualThreads,
+                        Map<String, Integer> mix,
+                        Path reportDirectory) {
+
+    static final String DEFAULT_MIX = "account.fetch=40,account.list=10,account.create=10,account.update=10," +
+            "orders.create=10,orders.fetchAll=15,orders.fetch=5";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.duration", 30),
+                Integer.getInteger("loadtest.warmup", 10),
+                Integer.getInteger("loadtest.concurrency", 16),
+                // Requests per second over all workers, 0 runs a closed loop as fast as responses come back
+                Integer.getInteger("loadtest.rate", 0),
+                Integer.getInteger("loadtest.seed-accounts", 1_000),
+                Integer.getInteger("loadtest.orders.port", 8083),
+                Integer.getInteger("loadtest.orders.median-delay-ms", 20),
+                // Boots the service with the virtual-threads profile
+                Boolean.getBoolean("loadtest.virtual-threads"),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.report-dir", "target/loadtest")));
+    }
+
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] operationAndWeight = entry.trim().split("=");
+            if (operationAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected operation=weight");
+            }
+            weights.put(operationAndWeight[0].trim(), Integer.parseInt(operationAndWeight[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,56 @@
+package com.eazybytes.accounts.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/*
+    WireMock stand-in for the orders service. Responses get a log normal delay around the configured
+    median so the accounts service sees a realistic remote latency distribution, not a constant.
+ */
+class OrdersServiceStub {
+
+    private static final String ORDER_JSON = """
+            {"orderId":"0190a5d2-8d1f-7c2b-a4e3-5f6a7b8c9d0e","name":"Keyboard","qty":2,"price":49.99,\
+            "status":"pending","accountNumber":"0190a5d2-7c4e-7b3a-9f1e-3c2d4b5a6e7f"}""";
+
+    private final WireMockServer server;
+
+    OrdersServiceStub(int port, int medianDelayMs) {
+        server = new WireMockServer(WireMockConfiguration.options()
+                .port(port)
+                .containerThreads(200)
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(50)
+                // Nothing verifies requests, keeping them would only grow the heap during long runs
+                .disableRequestJournal());
+        stubOrdersApi(medianDelayMs);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    void stop() {
+        server.stop();
+    }
+
+    private void stubOrdersApi(int medianDelayMs) {
+        server.stubFor(post(urlPathEqualTo("/api/orders/create"))
+                .willReturn(aResponse().withStatus(201)
+                        .withLogNormalRandomDelay(medianDelayMs, 0.4)));
+        server.stubFor(get(urlPathEqualTo("/api/orders/fetch"))
+                .willReturn(okJson(ORDER_JSON)
+                        .withLogNormalRandomDelay(medianDelayMs, 0.4)));
+        server.stubFor(get(urlPathEqualTo("/api/orders/fetchAll"))
+                .willReturn(okJson("[" + ORDER_JSON + "," + ORDER_JSON.replace("Keyboard", "Mouse") + "]")
+                        .withLogNormalRandomDelay(medianDelayMs, 0.4)));
+        server.stubFor(put(urlPathEqualTo("/api/orders/update"))
+                .willReturn(okJson("{\"statusCode\":\"200\",\"statusMsg\":\"Order updated successfully\"}")
+                        .withLogNormalRandomDelay(medianDelayMs, 0.4)));
+        server.stubFor(delete(urlPathEqualTo("/api/orders/delete"))
+                .willReturn(okJson("{\"statusCode\":\"200\",\"statusMsg\":\"Order deleted successfully\"}")
+                        .withLogNormalRandomDelay(medianDelayMs, 0.4)));
+    }
+}
@@ -0,0 +1,4 @@
+package com.eazybytes.accounts.loadtest;
+
+record SeededAccount(String email, String accountNumber) {
+}
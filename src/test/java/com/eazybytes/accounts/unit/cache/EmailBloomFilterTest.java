@@ -0,0 +1,72 @@
+package com.eazybytes.accounts.unit.cache;
+
+import com.eazybytes.accounts.cache.EmailBloomFilter;
+import com.eazybytes.accounts.repositories.AccountsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.stream.Stream;
+
+public class EmailBloomFilterTest {
+
+    private final AccountsRepository accountsRepository = Mockito.mock(AccountsRepository.class);
+
+    // Sized for a single email, so that any two emails share most of their counters
+    private final EmailBloomFilter emailBloomFilter =
+            new EmailBloomFilter(accountsRepository, new SimpleMeterRegistry(), 1, 0.01);
+
+    @Test
+    void testRebuild_DeleteOfEmailNotYetStreamedIsNotCounted() {
+        // Arrange: the account is deleted after the query started, before its row is streamed
+        Mockito.when(accountsRepository.streamAllEmails()).thenReturn(Stream.of("kept@example.com", "deleted@example.com")
+                .peek(email -> {
+                    if (email.equals("deleted@example.com")) {
+                        emailBloomFilter.remove("deleted@example.com");
+                    }
+                }));
+
+        // Act
+        emailBloomFilter.rebuild();
+
+        // Assert
+        Assertions.assertTrue(emailBloomFilter.mightContain("kept@example.com"));
+        Assertions.assertEquals(1, emailBloomFilter.size());
+    }
+
+    @Test
+    void testRebuild_DeleteOfEmailNeverStreamedDoesNotTakeOtherCounts() {
+        // Arrange: the account is deleted meanwhile and the query never returns its row
+        Mockito.when(accountsRepository.streamAllEmails()).thenReturn(Stream.of("kept@example.com", "deleted@example.com")
+                .filter(email -> {
+                    if (email.equals("deleted@example.com")) {
+                        emailBloomFilter.remove("deleted@example.com");
+                        return false;
+                    }
+                    return true;
+                }));
+
+        // Act
+        emailBloomFilter.rebuild();
+
+        // Assert
+        Assertions.assertTrue(emailBloomFilter.mightContain("kept@example.com"));
+        Assertions.assertEquals(1, emailBloomFilter.size());
+    }
+
+    @Test
+    void testRemove_AfterRebuildDecrementsAtOnce() {
+        // Arrange
+        Mockito.when(accountsRepository.streamAllEmails()).thenReturn(Stream.empty());
+        emailBloomFilter.rebuild();
+        emailBloomFilter.add("deleted@example.com");
+
+        // Act
+        emailBloomFilter.remove("deleted@example.com");
+
+        // Assert
+        Assertions.assertFalse(emailBloomFilter.mightContain("deleted@example.com"));
+        Assertions.assertEquals(0, emailBloomFilter.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.eazybytes.accounts.unit.cache;
+
+import com.eazybytes.accounts.cache.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(meterRegistry, "test");
+
+    @Test
+    void testExecute_ConcurrentCallersForSameKeyShareOneCall() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+
+        // Act: both callers subscribe before the response arrives
+        CompletableFuture<String> first = singleFlight.execute("order-1", () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        }).toFuture();
+        CompletableFuture<String> second = singleFlight.execute("order-1", () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        }).toFuture();
+        response.tryEmitValue("order");
+
+        // Assert
+        Assertions.assertEquals("order", first.join());
+        Assertions.assertEquals("order", second.join());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, meterRegistry.get("accounts.singleflight.calls")
+                .tags("name", "test", "result", "coalesced").counter().count());
+    }
+
+    @Test
+    void testExecute_CallAfterCompletionStartsNewCall() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("order-1", () -> Mono.fromCallable(calls::incrementAndGet).map(String::valueOf)).block();
+        String second = singleFlight.execute("order-1", () -> Mono.fromCallable(calls::incrementAndGet).map(String::valueOf)).block();
+
+        // Assert: nothing was in flight anymore, so the second caller did not get the first result
+        Assertions.assertEquals("2", second);
+        Assertions.assertEquals(0, meterRegistry.get("accounts.singleflight.in.flight").tag("name", "test").gauge().value());
+    }
+
+    @Test
+    void testExecute_ErrorIsSharedAndNotKept() {
+        // Arrange
+        Sinks.One<String> response = Sinks.one();
+
+        // Act
+        CompletableFuture<String> first = singleFlight.execute("order-1", response::asMono).toFuture();
+        CompletableFuture<String> second = singleFlight.execute("order-1", response::asMono).toFuture();
+        response.tryEmitError(new IllegalStateException("orders service down"));
+        String retried = singleFlight.execute("order-1", () -> Mono.just("order")).block();
+
+        // Assert
+        Assertions.assertTrue(first.isCompletedExceptionally());
+        Assertions.assertTrue(second.isCompletedExceptionally());
+        Assertions.assertEquals("order", retried);
+    }
+
+    @Test
+    void testExecute_DifferentKeysDoNotShare() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+
+        // Act
+        singleFlight.execute("order-1", () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        }).subscribe();
+        singleFlight.execute("order-2", () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        }).subscribe();
+
+        // Assert
+        Assertions.assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,63 @@
+package com.eazybytes.accounts.unit.cache;
+
+import com.eazybytes.accounts.cache.StampedCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class StampedCacheTest {
+
+    private final StampedCache cache = new StampedCache(new CaffeineCache("test", Caffeine.newBuilder().build()));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGet_LoadOverlappingEvictIsNotStored() {
+        // Act: the key is evicted while the loader runs
+        String value = cache.get("key", () -> {
+            cache.evict("key");
+            return "old";
+        });
+
+        // Assert
+        Assertions.assertEquals("old", value);
+        Assertions.assertNull(cache.get("key"));
+    }
+
+    @Test
+    void testGet_LoadAfterEvictIsStored() {
+        // Arrange
+        cache.evict("key");
+
+        // Act
+        cache.get("key", () -> "new");
+
+        // Assert
+        Assertions.assertEquals("new", cache.get("key", String.class));
+        Assertions.assertEquals("new", cache.get("key", () -> "other"));
+    }
+
+    @Test
+    void testEvict_InTransactionWaitsForCommit() {
+        // Arrange
+        cache.put("key", "old");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act: a read between the evict and the commit still sees the old row and caches it
+        cache.evict("key");
+        Assertions.assertEquals("old", cache.get("key", String.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        Assertions.assertNull(cache.get("key"));
+    }
+}
@@ -156,11 +156,15 @@ class OrderControllerCreateOrderTest {
         // Mock NotificationProducer (just prevent real execution)
         Mockito.doNothing().when(notificationProducer).sendMessage(Mockito.any(NotificationEvent.class));
 
-        // When (sending the request)
-        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders
+        // When (sending the request), the controller returns a Mono so the request is handled asynchronously
+        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders
                         .post("/api/orders/create?receiverEmail=" + receiverEmail)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(new ObjectMapper().writeValueAsString(orderDto)))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
                 .andExpect(MockMvcResultMatchers.status().isCreated())  // Expect 201
                 .andExpect(MockMvcResultMatchers.jsonPath("$.statusCode").value("201"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.statusMsg").value("Order created successfully"))
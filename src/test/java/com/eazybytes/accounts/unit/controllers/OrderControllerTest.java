@@ -4,7 +4,9 @@ import com.eazybytes.accounts.constants.OrdersConstants;
 import com.eazybytes.accounts.controller.OrderController;
 import com.eazybytes.accounts.dto.OrdersDto;
 import com.eazybytes.accounts.dto.ResponseDto;
-import com.eazybytes.accounts.service.impl.OrderServiceImpl;
+import com.eazybytes.accounts.service.impl.ReactiveOrderServiceImpl;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,8 +20,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Set;
+import java.util.List;
 import java.util.logging.Logger;
 
 @SpringBootTest
@@ -30,7 +34,7 @@ public class OrderControllerTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private OrderServiceImpl orderServiceImpl;
+    private ReactiveOrderServiceImpl reactiveOrderServiceImpl;
 
     @Autowired
     OrderController orderController;
@@ -57,10 +61,10 @@ public class OrderControllerTest {
         responseDto.setStatusCode("201");
         responseDto.setStatusMsg("Order created successfully");
 
-        Mockito.when(orderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
-                .thenReturn(responseDto);
+        Mockito.when(reactiveOrderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
+                .thenReturn(Mono.just(responseDto));
 
-        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto);
+        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto).block();
 
         // Verify the response
         Assertions.assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -78,10 +82,10 @@ public class OrderControllerTest {
         WebClientResponseException badRequestException = WebClientResponseException
                 .create(HttpStatus.BAD_REQUEST.value(), "Bad Request", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
-                .thenThrow(badRequestException);
+        Mockito.when(reactiveOrderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
+                .thenReturn(Mono.error(badRequestException));
 
-        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto);
+        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto).block();
 
 //        LOGGER.info(response.toString());
 
@@ -101,10 +105,10 @@ public class OrderControllerTest {
         WebClientResponseException internalServerErrorException = WebClientResponseException
                 .create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
-                .thenThrow(internalServerErrorException);
+        Mockito.when(reactiveOrderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
+                .thenReturn(Mono.error(internalServerErrorException));
 
-        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto);
+        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto).block();
 
 //        LOGGER.info(response.toString());
 
@@ -121,10 +125,10 @@ public class OrderControllerTest {
         responseDto.setStatusCode("201");
         responseDto.setStatusMsg("Order created successfully");
 
-        Mockito.when(orderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
+        Mockito.when(reactiveOrderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
                 .thenThrow(new NullPointerException("Unexpected null value"));
 
-        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto);
+        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto).block();
 
 //        LOGGER.info(response.toString());
 
@@ -137,10 +141,10 @@ public class OrderControllerTest {
     @Test
     public void fetchAllOrders() {
 
-        Mockito.when(orderServiceImpl.fetchAllOrders(Mockito.anyString()))
-                .thenReturn(Set.of(orderDto));
+        Mockito.when(reactiveOrderServiceImpl.fetchAllOrders(Mockito.anyString()))
+                .thenReturn(Flux.just(orderDto));
 
-        ResponseEntity<?> response = orderController.fetchAllOrders("213123123");
+        ResponseEntity<?> response = orderController.fetchAllOrders("213123123").block();
 
         // Verify the response
         Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -152,10 +156,10 @@ public class OrderControllerTest {
         WebClientResponseException notFoundException = WebClientResponseException
                 .create(HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.fetchAllOrders(Mockito.anyString()))
-                .thenThrow(notFoundException);
+        Mockito.when(reactiveOrderServiceImpl.fetchAllOrders(Mockito.anyString()))
+                .thenReturn(Flux.error(notFoundException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchAllOrders("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchAllOrders("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -172,10 +176,10 @@ public class OrderControllerTest {
         WebClientResponseException internalServerErrorException = WebClientResponseException
                 .create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.fetchAllOrders(Mockito.anyString()))
-                .thenThrow(internalServerErrorException);
+        Mockito.when(reactiveOrderServiceImpl.fetchAllOrders(Mockito.anyString()))
+                .thenReturn(Flux.error(internalServerErrorException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchAllOrders("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchAllOrders("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -188,10 +192,10 @@ public class OrderControllerTest {
     @Test
     public void testFetchAllOrders_returnExceptionResponseExceptionInternalServerError() {
 
-        Mockito.when(orderServiceImpl.fetchAllOrders(Mockito.anyString()))
+        Mockito.when(reactiveOrderServiceImpl.fetchAllOrders(Mockito.anyString()))
                 .thenThrow(new NullPointerException("Unexpected null value"));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchAllOrders("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchAllOrders("213123123").block();
 
         LOGGER.info(response.toString());
 
@@ -204,10 +208,10 @@ public class OrderControllerTest {
     @Test
     public void fetchOrder() {
 
-        Mockito.when(orderServiceImpl.fetchOrder(Mockito.anyString()))
-                .thenReturn(orderDto);
+        Mockito.when(reactiveOrderServiceImpl.fetchOrder(Mockito.anyString()))
+                .thenReturn(Mono.just(orderDto));
 
-        ResponseEntity<?> response = orderController.fetchOrder("213123123");
+        ResponseEntity<?> response = orderController.fetchOrder("213123123").block();
 
         // Verify the response
         Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -219,10 +223,10 @@ public class OrderControllerTest {
         WebClientResponseException notFoundException = WebClientResponseException
                 .create(HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.fetchOrder(Mockito.anyString()))
-                .thenThrow(notFoundException);
+        Mockito.when(reactiveOrderServiceImpl.fetchOrder(Mockito.anyString()))
+                .thenReturn(Mono.error(notFoundException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchOrder("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchOrder("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -239,10 +243,10 @@ public class OrderControllerTest {
         WebClientResponseException internalServerErrorException = WebClientResponseException
                 .create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.fetchOrder(Mockito.anyString()))
-                .thenThrow(internalServerErrorException);
+        Mockito.when(reactiveOrderServiceImpl.fetchOrder(Mockito.anyString()))
+                .thenReturn(Mono.error(internalServerErrorException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchOrder("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchOrder("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -255,10 +259,10 @@ public class OrderControllerTest {
     @Test
     public void testFetchOrder_returnExceptionResponseExceptionInternalServerError() {
 
-        Mockito.when(orderServiceImpl.fetchOrder(Mockito.anyString()))
+        Mockito.when(reactiveOrderServiceImpl.fetchOrder(Mockito.anyString()))
                 .thenThrow(new NullPointerException("Unexpected null value"));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchOrder("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchOrder("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -275,10 +279,10 @@ public class OrderControllerTest {
         responseDto.setStatusCode("200");
         responseDto.setStatusMsg("Order updated successfully");
 
-        Mockito.when(orderServiceImpl.updateOrderDetails(Mockito.any(OrdersDto.class)))
-                .thenReturn(responseDto);
+        Mockito.when(reactiveOrderServiceImpl.updateOrderDetails(Mockito.any(OrdersDto.class)))
+                .thenReturn(Mono.just(responseDto));
 
-        ResponseEntity<ResponseDto> response = orderController.updateOrderDetails(orderDto);
+        ResponseEntity<ResponseDto> response = orderController.updateOrderDetails(orderDto).block();
 
         // Verify the response
         Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -292,10 +296,10 @@ public class OrderControllerTest {
         WebClientResponseException notFoundException = WebClientResponseException
                 .create(HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.updateOrderDetails(Mockito.any(OrdersDto.class)))
-                .thenThrow(notFoundException);
+        Mockito.when(reactiveOrderServiceImpl.updateOrderDetails(Mockito.any(OrdersDto.class)))
+                .thenReturn(Mono.error(notFoundException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.updateOrderDetails(orderDto);
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.updateOrderDetails(orderDto).block();
 
 //        LOGGER.info(response.toString());
 
@@ -312,10 +316,10 @@ public class OrderControllerTest {
         WebClientResponseException internalServerErrorException = WebClientResponseException
                 .create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.updateOrderDetails(Mockito.any(OrdersDto.class)))
-                .thenThrow(internalServerErrorException);
+        Mockito.when(reactiveOrderServiceImpl.updateOrderDetails(Mockito.any(OrdersDto.class)))
+                .thenReturn(Mono.error(internalServerErrorException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.updateOrderDetails(orderDto);
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.updateOrderDetails(orderDto).block();
 
 //        LOGGER.info(response.toString());
 
@@ -328,10 +332,10 @@ public class OrderControllerTest {
     @Test
     public void testUpdateOrder_returnExceptionResponseExceptionInternalServerError() {
 
-        Mockito.when(orderServiceImpl.updateOrderDetails(Mockito.any(OrdersDto.class)))
+        Mockito.when(reactiveOrderServiceImpl.updateOrderDetails(Mockito.any(OrdersDto.class)))
                 .thenThrow(new NullPointerException("Unexpected null value"));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.updateOrderDetails(orderDto);
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.updateOrderDetails(orderDto).block();
 
 //        LOGGER.info(response.toString());
 
@@ -348,10 +352,10 @@ public class OrderControllerTest {
         responseDto.setStatusCode("200");
         responseDto.setStatusMsg("Order deleted successfully");
 
-        Mockito.when(orderServiceImpl.deleteOrderDetails(Mockito.anyString()))
-                .thenReturn(responseDto);
+        Mockito.when(reactiveOrderServiceImpl.deleteOrderDetails(Mockito.anyString()))
+                .thenReturn(Mono.just(responseDto));
 
-        ResponseEntity<ResponseDto> response = orderController.deleteOrderDetails("213123123");
+        ResponseEntity<ResponseDto> response = orderController.deleteOrderDetails("213123123").block();
 
         // Verify the response
         Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -365,10 +369,10 @@ public class OrderControllerTest {
         WebClientResponseException notFoundException = WebClientResponseException
                 .create(HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.deleteOrderDetails(Mockito.anyString()))
-                .thenThrow(notFoundException);
+        Mockito.when(reactiveOrderServiceImpl.deleteOrderDetails(Mockito.anyString()))
+                .thenReturn(Mono.error(notFoundException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.deleteOrderDetails("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.deleteOrderDetails("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -385,10 +389,10 @@ public class OrderControllerTest {
         WebClientResponseException internalServerErrorException = WebClientResponseException
                 .create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", HttpHeaders.EMPTY, null, null);
 
-        Mockito.when(orderServiceImpl.deleteOrderDetails(Mockito.anyString()))
-                .thenThrow(internalServerErrorException);
+        Mockito.when(reactiveOrderServiceImpl.deleteOrderDetails(Mockito.anyString()))
+                .thenReturn(Mono.error(internalServerErrorException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.deleteOrderDetails("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.deleteOrderDetails("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -401,10 +405,10 @@ public class OrderControllerTest {
     @Test
     public void testDeleteOrder_returnExceptionResponseExceptionInternalServerError() {
 
-        Mockito.when(orderServiceImpl.deleteOrderDetails(Mockito.anyString()))
+        Mockito.when(reactiveOrderServiceImpl.deleteOrderDetails(Mockito.anyString()))
                 .thenThrow(new NullPointerException("Unexpected null value"));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.deleteOrderDetails("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.deleteOrderDetails("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -421,10 +425,10 @@ public class OrderControllerTest {
                 .create(HttpStatus.EXPECTATION_FAILED.value(), "Internal Server Error", HttpHeaders.EMPTY, null, null);
 
 
-        Mockito.when(orderServiceImpl.deleteOrderDetails(Mockito.anyString()))
-                .thenThrow(expectationFailedErrorException);
+        Mockito.when(reactiveOrderServiceImpl.deleteOrderDetails(Mockito.anyString()))
+                .thenReturn(Mono.error(expectationFailedErrorException));
 
-        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.deleteOrderDetails("213123123");
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.deleteOrderDetails("213123123").block();
 
 //        LOGGER.info(response.toString());
 
@@ -434,4 +438,71 @@ public class OrderControllerTest {
         Assertions.assertEquals("417", response.getBody().getStatusCode());
     }
 
+    @Test
+    public void testFetchOrder_returnCallNotPermittedServiceUnavailable() {
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("orders-fetch");
+        circuitBreaker.transitionToOpenState();
+
+        Mockito.when(reactiveOrderServiceImpl.fetchOrder(Mockito.anyString()))
+                .thenReturn(Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker)));
+
+        ResponseEntity<ResponseDto> response = (ResponseEntity<ResponseDto>) orderController.fetchOrder("213123123").block();
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        Assertions.assertEquals(OrdersConstants.MESSAGE_503, response.getBody().getStatusMsg());
+        Assertions.assertEquals(OrdersConstants.STATUS_503, response.getBody().getStatusCode());
+    }
+
+    @Test
+    public void testCreateOrder_returnCallNotPermittedServiceUnavailable() {
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("orders-create");
+        circuitBreaker.transitionToOpenState();
+
+        Mockito.when(reactiveOrderServiceImpl.createOrder(Mockito.anyString(), Mockito.any(OrdersDto.class)))
+                .thenReturn(Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker)));
+
+        ResponseEntity<ResponseDto> response = orderController.createOrder("email@inbox.lv", orderDto).block();
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        Assertions.assertEquals(OrdersConstants.STATUS_503, response.getBody().getStatusCode());
+    }
+
+    @Test
+    public void testStreamAllOrders_returnsOrdersStream() {
+
+        OrdersDto secondOrderDto = new OrdersDto();
+        secondOrderDto.setName("Second Order");
+
+        Mockito.when(reactiveOrderServiceImpl.streamAllOrders(Mockito.anyString()))
+                .thenReturn(Mono.just(Flux.just(orderDto, secondOrderDto)));
+
+        ResponseEntity<Flux<?>> response = orderController.streamAllOrders("213123123").block();
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertEquals(List.of(orderDto, secondOrderDto), response.getBody().collectList().block());
+    }
+
+    @Test
+    public void testStreamAllOrders_returnCallNotPermittedServiceUnavailable() {
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("orders-fetch-all");
+        circuitBreaker.transitionToOpenState();
+
+        Mockito.when(reactiveOrderServiceImpl.streamAllOrders(Mockito.anyString()))
+                .thenReturn(Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker)));
+
+        ResponseEntity<Flux<?>> response = orderController.streamAllOrders("213123123").block();
+
+        // Assert
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        ResponseDto responseDto = (ResponseDto) response.getBody().blockFirst();
+        Assertions.assertEquals(OrdersConstants.STATUS_503, responseDto.getStatusCode());
+        Assertions.assertEquals(OrdersConstants.MESSAGE_503, responseDto.getStatusMsg());
+    }
+
 }
@@ -0,0 +1,53 @@
+package com.eazybytes.accounts.unit.id;
+
+import com.eazybytes.accounts.id.UuidV7Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+public class UuidV7GeneratorTest {
+
+    private final UuidV7Generator uuidV7Generator = new UuidV7Generator();
+
+    @Test
+    void testNextUuid_HasVersion7AndRfcVariant() {
+        // Act
+        UUID uuid = uuidV7Generator.nextUuid();
+
+        // Assert
+        Assertions.assertEquals(7, uuid.version());
+        Assertions.assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void testNextUuid_StartsWithCurrentUnixMillis() {
+        // Act
+        long before = System.currentTimeMillis();
+        UUID uuid = uuidV7Generator.nextUuid();
+        long after = System.currentTimeMillis();
+
+        // Assert
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        Assertions.assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    void testNextId_OrdersByCreationTimeAndIsUnique() throws InterruptedException {
+        // Act
+        String first = uuidV7Generator.nextId();
+        Thread.sleep(2);
+        String second = uuidV7Generator.nextId();
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(uuidV7Generator.nextId());
+        }
+
+        // Assert: the string form sorts the same way as the timestamp
+        Assertions.assertTrue(first.compareTo(second) < 0);
+        Assertions.assertEquals(100_000, ids.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.eazybytes.accounts.unit.loadbalancer;
+
+import com.eazybytes.accounts.loadbalancer.LoadBalancedEndpoint;
+import com.eazybytes.accounts.loadbalancer.PeakEwmaLoadBalancer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PeakEwmaLoadBalancerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://orders/api/orders/fetch")).build();
+
+    @Test
+    void testFilter_FastFailureIsChargedThePenalty() {
+        // Arrange
+        PeakEwmaLoadBalancer loadBalancer = loadBalancer(Duration.ofSeconds(10));
+        LoadBalancedEndpoint endpoint = loadBalancer.endpoints().get(0);
+
+        // Act: the instance answers 503 at once
+        loadBalancer.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())).block();
+
+        // Assert
+        Assertions.assertTrue(endpoint.ewmaMillis() > 900, "ewma " + endpoint.ewmaMillis());
+        Assertions.assertEquals(1, meterRegistry.get("accounts.loadbalancer.requests").counter().count());
+    }
+
+    @Test
+    void testFilter_SuccessIsChargedItsLatency() {
+        // Arrange
+        PeakEwmaLoadBalancer loadBalancer = loadBalancer(Duration.ofSeconds(10));
+        LoadBalancedEndpoint endpoint = loadBalancer.endpoints().get(0);
+
+        // Act
+        loadBalancer.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+
+        // Assert
+        Assertions.assertTrue(endpoint.ewmaMillis() < 900, "ewma " + endpoint.ewmaMillis());
+    }
+
+    @Test
+    void testEwma_DecaysWithoutFurtherCalls() throws InterruptedException {
+        // Arrange
+        PeakEwmaLoadBalancer loadBalancer = loadBalancer(Duration.ofMillis(1));
+        LoadBalancedEndpoint endpoint = loadBalancer.endpoints().get(0);
+        loadBalancer.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())).block();
+
+        // Act: no calls for many decay times
+        Thread.sleep(50);
+
+        // Assert: the failed instance is no longer more expensive than a healthy one
+        Assertions.assertTrue(endpoint.ewmaMillis() < 1, "ewma " + endpoint.ewmaMillis());
+    }
+
+    @Test
+    void testFilter_InstanceThatNeverAnswersStopsGettingCalls() {
+        // Arrange: two cold instances, one of them stalls every call
+        PeakEwmaLoadBalancer loadBalancer = new PeakEwmaLoadBalancer(meterRegistry, "test",
+                List.of(URI.create("http://localhost:8083"), URI.create("http://localhost:8084")),
+                Duration.ofSeconds(10), 5, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        List<Disposable> calls = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            calls.add(loadBalancer.filter(request, r -> r.url().getPort() == 8083
+                    ? Mono.never()
+                    : Mono.just(ClientResponse.create(HttpStatus.OK).build())).subscribe());
+        }
+
+        // Assert: at most the very first call went to the stalled instance
+        Assertions.assertTrue(loadBalancer.endpoints().get(0).outstanding() <= 1,
+                "calls in flight " + loadBalancer.endpoints().get(0).outstanding());
+        calls.forEach(Disposable::dispose);
+    }
+
+    private PeakEwmaLoadBalancer loadBalancer(Duration decayTime) {
+        return new PeakEwmaLoadBalancer(meterRegistry, "test", List.of(URI.create("http://localhost:8083")),
+                decayTime, 5, Duration.ofSeconds(30), Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,160 @@
+package com.eazybytes.accounts.unit.placement;
+
+import com.eazybytes.accounts.constants.OrdersConstants;
+import com.eazybytes.accounts.dto.OrderStatusDto;
+import com.eazybytes.accounts.dto.OrdersDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.eazybytes.accounts.placement.OrderPlacementQueue;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+public class OrderPlacementQueueTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger ids = new AtomicInteger();
+
+    private OrderPlacementQueue orderPlacementQueue;
+
+    @AfterEach
+    void tearDown() {
+        orderPlacementQueue.shutdown();
+    }
+
+    @Test
+    void testSubmit_WhenOrderPlaced_ReportsPlaced() throws Exception {
+        // Arrange
+        List<String> placedIds = new CopyOnWriteArrayList<>();
+        orderPlacementQueue = orderPlacementQueue(10, (email, order) -> {
+            placedIds.add(order.getOrderId());
+            return Mono.just(new ResponseDto(OrdersConstants.STATUS_201, OrdersConstants.MESSAGE_201));
+        });
+
+        // Act
+        OrderStatusDto pending = orderPlacementQueue.submit("test@example.com", new OrdersDto());
+
+        // Assert
+        Assertions.assertEquals("order-1", pending.getOrderId());
+        Assertions.assertEquals(OrderStatusDto.PENDING, pending.getStatus());
+        OrderStatusDto placed = awaitOutcome("order-1");
+        Assertions.assertEquals(OrderStatusDto.PLACED, placed.getStatus());
+        Assertions.assertEquals(OrdersConstants.STATUS_201, placed.getStatusCode());
+        Assertions.assertEquals(List.of("order-1"), placedIds);
+        Assertions.assertEquals(1, placements("placed"));
+    }
+
+    @Test
+    void testSubmit_WhenOrdersServiceRejectsOrder_ReportsFailed() throws Exception {
+        // Arrange
+        orderPlacementQueue = orderPlacementQueue(10, (email, order) ->
+                Mono.just(new ResponseDto(OrdersConstants.STATUS_400, OrdersConstants.MESSAGE_400_CREATE)));
+
+        // Act
+        orderPlacementQueue.submit("test@example.com", new OrdersDto());
+
+        // Assert
+        OrderStatusDto failed = awaitOutcome("order-1");
+        Assertions.assertEquals(OrderStatusDto.FAILED, failed.getStatus());
+        Assertions.assertEquals(OrdersConstants.STATUS_400, failed.getStatusCode());
+        Assertions.assertEquals(OrdersConstants.MESSAGE_400_CREATE, failed.getStatusMsg());
+        Assertions.assertEquals(1, placements("failed"));
+    }
+
+    @Test
+    void testSubmit_WhenCircuitOpen_ReportsServiceUnavailable() throws Exception {
+        // Arrange
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("orders-create");
+        circuitBreaker.transitionToOpenState();
+        orderPlacementQueue = orderPlacementQueue(10, (email, order) ->
+                Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker)));
+
+        // Act
+        orderPlacementQueue.submit("test@example.com", new OrdersDto());
+
+        // Assert
+        OrderStatusDto failed = awaitOutcome("order-1");
+        Assertions.assertEquals(OrderStatusDto.FAILED, failed.getStatus());
+        Assertions.assertEquals(OrdersConstants.STATUS_503, failed.getStatusCode());
+    }
+
+    @Test
+    void testSubmit_WhenQueueFull_RejectsOrder() throws Exception {
+        // Arrange: the only worker is held by the first order, the second one fills the queue
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        orderPlacementQueue = orderPlacementQueue(1, (email, order) -> Mono.fromCallable(() -> {
+            started.countDown();
+            release.await();
+            return new ResponseDto(OrdersConstants.STATUS_201, OrdersConstants.MESSAGE_201);
+        }));
+        orderPlacementQueue.submit("test@example.com", new OrdersDto());
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        orderPlacementQueue.submit("test@example.com", new OrdersDto());
+
+        // Act
+        OrderStatusDto rejected = orderPlacementQueue.submit("test@example.com", new OrdersDto());
+
+        // Assert
+        Assertions.assertNull(rejected);
+        Assertions.assertNull(orderPlacementQueue.status("order-3"));
+        Assertions.assertEquals(1, placements("rejected"));
+        Assertions.assertEquals(1, meterRegistry.get("accounts.orders.placement.queue.depth").gauge().value());
+        release.countDown();
+        Assertions.assertEquals(OrderStatusDto.PLACED, awaitOutcome("order-2").getStatus());
+    }
+
+    @Test
+    void testSubmit_WhenShutDown_RejectsOrder() {
+        // Arrange
+        AtomicInteger placements = new AtomicInteger();
+        orderPlacementQueue = orderPlacementQueue(10, (email, order) -> {
+            placements.incrementAndGet();
+            return Mono.just(new ResponseDto(OrdersConstants.STATUS_201, OrdersConstants.MESSAGE_201));
+        });
+        orderPlacementQueue.shutdown();
+
+        // Act
+        OrderStatusDto rejected = orderPlacementQueue.submit("test@example.com", new OrdersDto());
+
+        // Assert
+        Assertions.assertNull(rejected);
+        Assertions.assertEquals(0, orderPlacementQueue.depth());
+        Assertions.assertEquals(0, placements.get());
+        Assertions.assertEquals(1, placements("rejected"));
+    }
+
+    private OrderPlacementQueue orderPlacementQueue(int capacity, BiFunction<String, OrdersDto, Mono<ResponseDto>> placer) {
+        return new OrderPlacementQueue(meterRegistry, true, capacity, 1, Duration.ofSeconds(1), 100,
+                Duration.ofMinutes(1), () -> "order-" + ids.incrementAndGet(), placer);
+    }
+
+    private OrderStatusDto awaitOutcome(String orderId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            OrderStatusDto status = orderPlacementQueue.status(orderId);
+            if (status != null && !OrderStatusDto.PENDING.equals(status.getStatus())) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        return Assertions.fail("Order " + orderId + " still pending");
+    }
+
+    private double placements(String result) {
+        return meterRegistry.get("accounts.orders.placement.orders").tags("result", result).counter().count();
+    }
+}
@@ -0,0 +1,99 @@
+package com.eazybytes.accounts.unit.resilience;
+
+import com.eazybytes.accounts.resilience.HedgedRequests;
+import com.eazybytes.accounts.resilience.RequestBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HedgedRequestsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testHedge_WhenFirstCallIsSlow_UsesFasterHedge() {
+        // Arrange
+        HedgedRequests hedgedRequests = hedgedRequests(true, new RequestBudget(meterRegistry, "hedge", 1, 0, 10));
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> call = slowFirstCall(subscriptions, Duration.ofSeconds(5));
+
+        // Act
+        long start = System.nanoTime();
+        String result = hedgedRequests.hedge(call).block();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        Assertions.assertEquals("hedge", result);
+        Assertions.assertEquals(2, subscriptions.get());
+        Assertions.assertTrue(elapsedMillis < 2_000, "took " + elapsedMillis + "ms");
+        Assertions.assertEquals(1, hedgeRequests("sent"));
+        Assertions.assertEquals(1, hedgeRequests("won"));
+    }
+
+    @Test
+    void testHedge_WhenBudgetIsEmpty_WaitsForFirstCall() {
+        // Arrange
+        HedgedRequests hedgedRequests = hedgedRequests(true, new RequestBudget(meterRegistry, "hedge", 0, 0, 10));
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> call = slowFirstCall(subscriptions, Duration.ofMillis(300));
+
+        // Act
+        String result = hedgedRequests.hedge(call).block();
+
+        // Assert
+        Assertions.assertEquals("first", result);
+        Assertions.assertEquals(1, subscriptions.get());
+        Assertions.assertEquals(1, hedgeRequests("denied"));
+    }
+
+    @Test
+    void testHedge_WhenFirstCallFailsBeforeDelay_DoesNotHedge() {
+        // Arrange
+        HedgedRequests hedgedRequests = hedgedRequests(true, new RequestBudget(meterRegistry, "hedge", 1, 0, 10));
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Mono.error(new IllegalStateException("not found"));
+        });
+
+        // Act & Assert
+        Assertions.assertThrows(IllegalStateException.class, () -> hedgedRequests.hedge(call).block());
+        Assertions.assertEquals(1, subscriptions.get());
+        Assertions.assertEquals(0, hedgeRequests("sent"));
+    }
+
+    @Test
+    void testHedge_WhenDisabled_SendsOneCall() {
+        // Arrange
+        HedgedRequests hedgedRequests = hedgedRequests(false, new RequestBudget(meterRegistry, "hedge", 1, 0, 10));
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> call = slowFirstCall(subscriptions, Duration.ofMillis(300));
+
+        // Act
+        String result = hedgedRequests.hedge(call).block();
+
+        // Assert
+        Assertions.assertEquals("first", result);
+        Assertions.assertEquals(1, subscriptions.get());
+    }
+
+    private HedgedRequests hedgedRequests(boolean enabled, RequestBudget budget) {
+        return new HedgedRequests(meterRegistry, "test", enabled, 0.95, Duration.ofMillis(50), Duration.ofMillis(10), budget);
+    }
+
+    // The first subscription answers "first" after the given delay, every later one answers "hedge" at once
+    private static Mono<String> slowFirstCall(AtomicInteger subscriptions, Duration firstDelay) {
+        return Mono.defer(() -> subscriptions.incrementAndGet() == 1
+                ? Mono.delay(firstDelay).thenReturn("first")
+                : Mono.just("hedge"));
+    }
+
+    private double hedgeRequests(String result) {
+        return meterRegistry.get("accounts.hedging.requests").tags("name", "test", "result", result).counter().count();
+    }
+}
@@ -0,0 +1,71 @@
+package com.eazybytes.accounts.unit.resilience;
+
+import com.eazybytes.accounts.resilience.RequestBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RequestBudgetTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testTryAcquire_AllowsOneExtraRequestPerTenOriginalsAtRatioOneTenth() {
+        // Arrange
+        RequestBudget requestBudget = new RequestBudget(meterRegistry, "test", 0.1, 0, 100);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            requestBudget.recordRequest();
+        }
+        int allowed = 0;
+        while (requestBudget.tryAcquire()) {
+            allowed++;
+        }
+
+        // Assert
+        Assertions.assertEquals(10, allowed);
+        Assertions.assertEquals(10, meterRegistry.get("accounts.request.budget.requests")
+                .tags("name", "test", "result", "acquired").functionCounter().count());
+        Assertions.assertEquals(1, meterRegistry.get("accounts.request.budget.requests")
+                .tags("name", "test", "result", "rejected").functionCounter().count());
+    }
+
+    @Test
+    void testTryAcquire_RejectsWithoutOriginalRequests() {
+        // Arrange
+        RequestBudget requestBudget = new RequestBudget(meterRegistry, "empty", 0.5, 0, 10);
+
+        // Act & Assert
+        Assertions.assertFalse(requestBudget.tryAcquire());
+    }
+
+    @Test
+    void testRecordRequest_BalanceIsCappedAtMaxBalance() {
+        // Arrange
+        RequestBudget requestBudget = new RequestBudget(meterRegistry, "capped", 1, 0, 5);
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            requestBudget.recordRequest();
+        }
+
+        // Assert
+        Assertions.assertEquals(5, requestBudget.balance(), 0.0001);
+        Assertions.assertEquals(5, meterRegistry.get("accounts.request.budget.balance").tag("name", "capped").gauge().value(), 0.0001);
+    }
+
+    @Test
+    void testTryAcquire_RefillsMinPerSecondOverTime() throws InterruptedException {
+        // Arrange
+        RequestBudget requestBudget = new RequestBudget(meterRegistry, "refill", 0, 20, 10);
+
+        // Act
+        Thread.sleep(200);
+
+        // Assert: 200ms at 20 per second is about 4 tokens
+        Assertions.assertTrue(requestBudget.tryAcquire());
+        Assertions.assertTrue(requestBudget.balance() < 10);
+    }
+}
@@ -1,21 +1,38 @@
 package com.eazybytes.accounts.unit.services;
 
+import com.eazybytes.accounts.cache.EmailBloomFilter;
+import com.eazybytes.accounts.dto.AccountsBatchFetchDto;
 import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.dto.AccountsView;
+import com.eazybytes.accounts.dto.BatchItemResponseDto;
 import com.eazybytes.accounts.entities.Accounts;
 import com.eazybytes.accounts.exception.AccountAlreadyExistsException;
+import com.eazybytes.accounts.exception.InvalidRequestException;
+import com.eazybytes.accounts.exception.PreconditionFailedException;
 import com.eazybytes.accounts.exception.ResourceNotFoundException;
 import com.eazybytes.accounts.repositories.AccountsRepository;
+import com.eazybytes.accounts.service.IAccountsService;
 import com.eazybytes.accounts.service.impl.AccountsServiceImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class AccountsServiceImplTest {
@@ -23,9 +40,19 @@ public class AccountsServiceImplTest {
     @MockitoBean
     private AccountsRepository accountsRepository;
 
+    @MockitoBean
+    private EmailBloomFilter emailBloomFilter;
+
+    @MockitoBean
+    private AuditorAware<String> auditorAware;
+
     @InjectMocks
     private AccountsServiceImpl accountServiceImpl;
 
+    // Spring wired instance on the same mocks, createAccounts needs the real validator
+    @Autowired
+    private IAccountsService iAccountsService;
+
     private String initialAccountNumber = UUID.randomUUID().toString();
     private String initialAccountEmail = "Ak@example.com";
     private String initialAccountMobileNumber = "12345678";
@@ -45,6 +72,10 @@ public class AccountsServiceImplTest {
     void setUp() {
         // Arrange
 
+        // FILTER: every email is a possible hit unless a test says otherwise
+        Mockito.when(emailBloomFilter.mightContain(Mockito.anyString())).thenReturn(true);
+        Mockito.when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("ACCOUNTS_MS"));
+
         // ENTITY INITIAL
         initialAccount = new Accounts();
         initialAccount.setAccountNumber(initialAccountNumber);
@@ -78,20 +109,21 @@ public class AccountsServiceImplTest {
     void testCreateAccount_Success() {
 
         // Mock behavior: No existing account found
-        Mockito.when(accountsRepository.findByEmail(initialAccount.getEmail())).thenReturn(Optional.empty());
+        Mockito.when(accountsRepository.existsByEmail(initialAccount.getEmail())).thenReturn(false);
 
         // Call the service method
         accountServiceImpl.createAccount(initialAccountDto);
 
-        // Verify the repository method was called
-        Mockito.verify(accountsRepository).save(Mockito.any(Accounts.class));
-        Mockito.verify(accountsRepository, Mockito.times(1)).findByEmail(initialAccount.getEmail());
+        // Verify the account was inserted without save(), which would select it first to merge
+        Mockito.verify(accountsRepository).persist(Mockito.any(Accounts.class));
+        Mockito.verify(accountsRepository, Mockito.never()).save(Mockito.any(Accounts.class));
+        Mockito.verify(accountsRepository, Mockito.times(1)).existsByEmail(initialAccount.getEmail());
     }
 
     @Test
     void testCreateAccount_ThrowsException_WhenEmailAlreadyExists() {
         // Mock behavior: Email already exists
-        Mockito.when(accountsRepository.findByEmail(initialAccount.getEmail())).thenReturn(Optional.of(initialAccount));
+        Mockito.when(accountsRepository.existsByEmail(initialAccount.getEmail())).thenReturn(true);
 
         // Assert that exception is thrown
         Exception exception = Assertions.assertThrows(AccountAlreadyExistsException.class, () ->
@@ -101,17 +133,95 @@ public class AccountsServiceImplTest {
         // Verify the exception message
         Assertions.assertEquals("Account already registered with given Email " + initialAccount.getEmail() + "", exception.getMessage());
 
-        // Verify repository calls (save should NOT be called)
-        Mockito.verify(accountsRepository, Mockito.times(1)).findByEmail(initialAccount.getEmail());
-        Mockito.verify(accountsRepository, Mockito.never()).save(Mockito.any(Accounts.class));
+        // Verify repository calls (persist should NOT be called)
+        Mockito.verify(accountsRepository, Mockito.times(1)).existsByEmail(initialAccount.getEmail());
+        Mockito.verify(accountsRepository, Mockito.never()).persist(Mockito.any(Accounts.class));
+    }
+
+    @Test
+    void testCreateAccount_SkipsExistenceCheck_WhenFilterMisses() {
+        // Mock behavior: the filter has definitely not seen the email
+        Mockito.when(emailBloomFilter.mightContain(initialAccount.getEmail())).thenReturn(false);
+
+        // Call the service method
+        accountServiceImpl.createAccount(initialAccountDto);
+
+        // Verify the database check was skipped and the filter learned the new email
+        Mockito.verify(accountsRepository, Mockito.never()).existsByEmail(Mockito.anyString());
+        Mockito.verify(accountsRepository).persist(Mockito.any(Accounts.class));
+        Mockito.verify(emailBloomFilter).add(initialAccount.getEmail());
+    }
+
+    @Test
+    void testCreateAccount_ThrowsException_WhenUniqueIndexRejectsEmail() {
+        // Mock behavior: the filter misses, but a concurrent create stored the same email first
+        Mockito.when(emailBloomFilter.mightContain(initialAccount.getEmail())).thenReturn(false);
+        Mockito.doThrow(new DataIntegrityViolationException("uk_accounts_email"))
+                .when(accountsRepository).persist(Mockito.any(Accounts.class));
+        Mockito.when(accountsRepository.existsByEmail(initialAccount.getEmail())).thenReturn(true);
+
+        // Assert that the constraint violation is reported as a duplicate
+        Assertions.assertThrows(AccountAlreadyExistsException.class, () ->
+                accountServiceImpl.createAccount(initialAccountDto)
+        );
+        Mockito.verify(emailBloomFilter, Mockito.never()).add(Mockito.anyString());
+    }
+
+    @Test
+    void testCreateAccounts_RetriesChunkWithoutEmailTakenConcurrently() {
+        // Arrange: both emails are free at the check, then a concurrent create stores the first one
+        List<AccountsDto> accountDtos = List.of(batchAccountDto("race1@example.com"), batchAccountDto("race2@example.com"));
+        Mockito.when(accountsRepository.findExistingEmails(Mockito.anyCollection()))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("race1@example.com"));
+        List<List<String>> persistedEmails = new ArrayList<>();
+        Mockito.doThrow(new DataIntegrityViolationException("uk_accounts_email"))
+                .doAnswer(invocation -> {
+                    List<Accounts> accounts = invocation.getArgument(0);
+                    persistedEmails.add(accounts.stream().map(Accounts::getEmail).toList());
+                    return null;
+                })
+                .when(accountsRepository).persistAll(Mockito.anyList());
+
+        // Act
+        List<BatchItemResponseDto> results = iAccountsService.createAccounts(accountDtos);
+
+        // Assert: the loser is reported as a duplicate, the rest of the chunk is stored
+        Assertions.assertEquals("400", results.get(0).getStatusCode());
+        Assertions.assertEquals("Account already registered with given Email race1@example.com", results.get(0).getStatusMsg());
+        Assertions.assertEquals("201", results.get(1).getStatusCode());
+        Assertions.assertEquals(List.of(List.of("race2@example.com")), persistedEmails);
+        Mockito.verify(emailBloomFilter).add("race2@example.com");
+        Mockito.verify(emailBloomFilter, Mockito.never()).add("race1@example.com");
+    }
+
+    @Test
+    void testCreateAccounts_ThrowsException_WhenRejectedForAnotherReason() {
+        // Arrange: the chunk fails, but none of its emails is stored by anyone
+        Mockito.when(accountsRepository.findExistingEmails(Mockito.anyCollection())).thenReturn(Set.of());
+        Mockito.doThrow(new DataIntegrityViolationException("other constraint"))
+                .when(accountsRepository).persistAll(Mockito.anyList());
+
+        // Act & Assert
+        Assertions.assertThrows(DataIntegrityViolationException.class, () ->
+                iAccountsService.createAccounts(List.of(batchAccountDto("race3@example.com"))));
+    }
+
+    private AccountsDto batchAccountDto(String email) {
+        AccountsDto accountDto = new AccountsDto();
+        accountDto.setAccountNumber(UUID.randomUUID().toString());
+        accountDto.setName(initialName);
+        accountDto.setEmail(email);
+        accountDto.setMobileNumber(initialAccountMobileNumber);
+        return accountDto;
     }
 
     @Test
     void testFetchAccount_Success()  {
         // Mock behavior: Account is found
-        Mockito.when(accountsRepository.findByEmail(initialAccount.getEmail())).thenReturn(Optional.of(initialAccount));
+        Mockito.when(accountsRepository.findViewByEmail(initialAccount.getEmail())).thenReturn(Optional.of(initialAccountView()));
 
-        // Call the Delete account method
+        // Call the Fetch account method
         AccountsDto result = accountServiceImpl.fetchAccount(initialAccount.getEmail());
 
         // Arrange AccountDto
@@ -124,7 +234,7 @@ public class AccountsServiceImplTest {
     @Test
     void testFetchAccount_ThrowsException_WhenEmailDoesNotExists() {
         // Mock behavior: Email does not exist
-        Mockito.when(accountsRepository.findByEmail(noneExistingAccountEmail)).thenReturn(Optional.empty());
+        Mockito.when(accountsRepository.findViewByEmail(noneExistingAccountEmail)).thenReturn(Optional.empty());
 
         // Assert that exception is thrown
         Exception exception = Assertions.assertThrows(ResourceNotFoundException.class, () ->
@@ -135,21 +245,101 @@ public class AccountsServiceImplTest {
         Assertions.assertEquals("Account not found with the given input data Email : '"+ noneExistingAccountEmail +"'", exception.getMessage());
 
         // Verify repository calls (save should NOT be called)
-        Mockito.verify(accountsRepository, Mockito.times(1)).findByEmail(noneExistingAccountEmail);
+        Mockito.verify(accountsRepository, Mockito.times(1)).findViewByEmail(noneExistingAccountEmail);
+    }
+
+    @Test
+    void testFetchAccounts_ReturnsFoundAndMissing() {
+        // Mock behavior: only the initial account exists
+        Mockito.when(accountsRepository.findViewsByEmailIn(Mockito.anyCollection())).thenReturn(List.of(initialAccountView()));
+
+        // Call the multi-get method, duplicates are resolved once
+        AccountsBatchFetchDto result = accountServiceImpl.fetchAccounts(
+                List.of(noneExistingAccountEmail, initialAccountEmail, noneExistingAccountEmail));
+
+        // Assert
+        Assertions.assertEquals(1, result.getFound().size());
+        Assertions.assertEquals(initialAccountNumber, result.getFound().get(0).getAccountNumber());
+        Assertions.assertEquals(List.of(noneExistingAccountEmail), result.getMissing());
+        Mockito.verify(accountsRepository, Mockito.times(1)).findViewsByEmailIn(Mockito.anyCollection());
+    }
+
+    @Test
+    void testFetchAccounts_QueriesInChunks() {
+        // Arrange: 250 distinct emails -> 3 IN queries of at most 100 emails
+        List<String> emails = IntStream.range(0, 250).mapToObj(i -> "user" + i + "@example.com").toList();
+
+        // Call the multi-get method
+        AccountsBatchFetchDto result = accountServiceImpl.fetchAccounts(emails);
+
+        // Assert
+        Assertions.assertEquals(emails, result.getMissing());
+        Mockito.verify(accountsRepository, Mockito.times(3)).findViewsByEmailIn(Mockito.anyCollection());
+    }
+
+    @Test
+    void testFetchAccounts_ThrowsException_WhenTooManyEmails() {
+        // Arrange
+        List<String> emails = IntStream.range(0, 1001).mapToObj(i -> "user" + i + "@example.com").toList();
+
+        // Assert that exception is thrown and the database is not touched
+        Assertions.assertThrows(InvalidRequestException.class, () -> accountServiceImpl.fetchAccounts(emails));
+        Mockito.verify(accountsRepository, Mockito.never()).findViewsByEmailIn(Mockito.anyCollection());
+    }
+
+    @Test
+    void testListAccounts_ReturnsCursor_WhenMorePagesFollow() {
+        // Arrange: three stored accounts, page size two
+        List<String> accountNumbers = IntStream.range(0, 3).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        List<Accounts> accounts = IntStream.range(0, 3).mapToObj(i -> {
+            Accounts account = new Accounts();
+            account.setAccountNumber(accountNumbers.get(i));
+            account.setEmail("user" + i + "@example.com");
+            account.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+            return account;
+        }).toList();
+        Mockito.when(accountsRepository.findFirstPage(Limit.of(3))).thenReturn(accounts);
+
+        // Call the list method for the first page
+        AccountsPageDto firstPage = accountServiceImpl.listAccounts(null, 2);
+
+        // Assert: the extra row is not returned but produces a cursor
+        Assertions.assertEquals(2, firstPage.getAccounts().size());
+        Assertions.assertNotNull(firstPage.getNextCursor());
+
+        // Follow the cursor: the seek starts after the last returned row
+        Mockito.when(accountsRepository.findPageAfter(LocalDateTime.of(2024, 1, 1, 0, 0), accountNumbers.get(1), Limit.of(3)))
+                .thenReturn(List.of(accounts.get(2)));
+        AccountsPageDto secondPage = accountServiceImpl.listAccounts(firstPage.getNextCursor(), 2);
+
+        Assertions.assertEquals(1, secondPage.getAccounts().size());
+        Assertions.assertEquals(accountNumbers.get(2), secondPage.getAccounts().get(0).getAccountNumber());
+        Assertions.assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void testListAccounts_ThrowsException_WhenCursorInvalid() {
+        // Assert that a tampered cursor or page size is rejected before the database is touched
+        Assertions.assertThrows(InvalidRequestException.class, () -> accountServiceImpl.listAccounts("not-a-cursor", 20));
+        Assertions.assertThrows(InvalidRequestException.class, () -> accountServiceImpl.listAccounts(null, 101));
+        Mockito.verifyNoInteractions(accountsRepository);
     }
 
     @Test
     void testUpdateAccount_Success()  {
 
-        // Mock behavior: Account is found
-        Mockito.when(accountsRepository.findByEmail(initialAccount.getEmail())).thenReturn(Optional.of(updatedAccount));
-        Mockito.when(accountsRepository.save(updatedAccount)).thenReturn(updatedAccount);
+        // Mock behavior: one row is updated
+        Mockito.when(accountsRepository.updateByEmail(Mockito.eq(initialAccount.getEmail()), Mockito.eq(updatedName),
+                Mockito.eq(updatedAccountMobileNumber), Mockito.any(LocalDateTime.class), Mockito.eq("ACCOUNTS_MS")))
+                .thenReturn(1);
 
         // Call the Update account method
         boolean result = accountServiceImpl.updateAccount(updatedAccountDto);
 
-        // Assert the result
+        // Assert the result, the account is neither loaded nor merged
         Assertions.assertTrue(result);
+        Mockito.verify(accountsRepository, Mockito.never()).findByEmail(Mockito.anyString());
+        Mockito.verify(accountsRepository, Mockito.never()).save(Mockito.any(Accounts.class));
     }
 
     @Test
@@ -157,8 +347,9 @@ public class AccountsServiceImplTest {
         // Arrange AccountDto
        updatedAccountDto.setEmail(noneExistingAccountEmail);
 
-        // Mock behavior: Account is found
-        Mockito.when(accountsRepository.findByEmail(updatedAccountDto.getEmail())).thenReturn(Optional.empty());
+        // Mock behavior: no row matches the email
+        Mockito.when(accountsRepository.updateByEmail(Mockito.eq(updatedAccountDto.getEmail()), Mockito.anyString(),
+                Mockito.anyString(), Mockito.any(LocalDateTime.class), Mockito.anyString())).thenReturn(0);
 
         // Assert that exception is thrown
         Exception exception = Assertions.assertThrows(ResourceNotFoundException.class, () ->
@@ -169,26 +360,47 @@ public class AccountsServiceImplTest {
         Assertions.assertEquals("Account not found with the given input data Email : '" + updatedAccountDto.getEmail() + "'", exception.getMessage());
 
         // Verify repository calls (save should NOT be called)
-        Mockito.verify(accountsRepository, Mockito.times(1)).findByEmail(updatedAccountDto.getEmail());
+        Mockito.verify(accountsRepository, Mockito.never()).save(Mockito.any(Accounts.class));
+    }
+
+
+    @Test
+    void testUpdateAccount_ThrowsException_WhenVersionIsStale() {
+        // Arrange AccountDto: the caller read version 3
+        updatedAccountDto.setVersion(3L);
+
+        // Mock behavior: the version no longer matches but the account exists
+        Mockito.when(accountsRepository.updateByEmailAndVersion(Mockito.eq(initialAccountEmail), Mockito.eq(initialAccountNumber),
+                Mockito.eq(3L), Mockito.anyString(), Mockito.anyString(), Mockito.any(LocalDateTime.class), Mockito.anyString()))
+                .thenReturn(0);
+        Mockito.when(accountsRepository.existsByEmail(initialAccountEmail)).thenReturn(true);
+
+        // Assert that the stale write is rejected
+        Assertions.assertThrows(PreconditionFailedException.class, () ->
+                accountServiceImpl.updateAccount(updatedAccountDto)
+        );
+        Mockito.verify(accountsRepository, Mockito.never()).updateByEmail(Mockito.anyString(), Mockito.anyString(),
+                Mockito.anyString(), Mockito.any(), Mockito.any());
     }
 
 
     @Test
     void testDeleteAccount_Success()  {
-        // Mock behavior: Account is found
-        Mockito.when(accountsRepository.findByEmail(initialAccount.getEmail())).thenReturn(Optional.of(initialAccount));
+        // Mock behavior: one row is deleted
+        Mockito.when(accountsRepository.deleteByEmail(initialAccount.getEmail())).thenReturn(1);
 
         // Call the Delete account method
         boolean result = accountServiceImpl.deleteAccount(initialAccount.getEmail());
 
         // Assert the result
         Assertions.assertTrue(result);
+        Mockito.verify(emailBloomFilter).remove(initialAccount.getEmail());
     }
 
     @Test
     void testDeleteAccount_ThrowsException_WhenAccountNotFound() {
         // Mock behavior: Account is NOT found
-        Mockito.when(accountsRepository.findByEmail(noneExistingAccountEmail)).thenReturn(Optional.empty());
+        Mockito.when(accountsRepository.deleteByEmail(noneExistingAccountEmail)).thenReturn(0);
 
         // Assert that calling deleteAccount throws ResourceNotFoundException
         Exception exception = Assertions.assertThrows(ResourceNotFoundException.class, () ->
@@ -197,8 +409,12 @@ public class AccountsServiceImplTest {
 
         // Verify the exception message
         Assertions.assertEquals("Account not found with the given input data email : '" + noneExistingAccountEmail + "'", exception.getMessage());
+        Mockito.verify(emailBloomFilter, Mockito.never()).remove(Mockito.anyString());
     }
 
-
+    private AccountsView initialAccountView() {
+        return new AccountsView(initialAccount.getAccountNumber(), initialAccount.getName(), initialAccount.getEmail(),
+                initialAccount.getMobileNumber(), initialAccount.getVersion());
+    }
 }
 